@@ -0,0 +1,49 @@
+package hexlet.code.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.task.TaskDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes a task list with the ObjectMapper built from the application's Jackson configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JacksonConfigBenchmark {
+    @Param({"20", "500"})
+    private int taskCount;
+
+    private ObjectMapper objectMapper;
+    private List<TaskDTO> tasks;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new JacksonConfig().objectMapperBuilder().build();
+        tasks = new ArrayList<>();
+        for (long i = 0; i < taskCount; i++) {
+            var task = new TaskDTO(i, "Task " + i, (int) i * 1024, i % 2 == 0 ? null : "Description of task " + i,
+                    "to_review", i % 3 == 0 ? null : i, LocalDate.of(2025, 1, 1));
+            task.getTaskLabelIds().addAll(List.of(1L, 2L, 3L));
+            tasks.add(task);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeTaskList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+}
@@ -0,0 +1,50 @@
+package hexlet.code.mapper;
+
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonNullableMapperBenchmark {
+    private JsonNullableMapper jsonNullableMapper;
+    private JsonNullable<String> present;
+    private JsonNullable<String> undefined;
+    private String value;
+
+    @Setup
+    public void setUp() {
+        jsonNullableMapper = new JsonNullableMapperImpl();
+        present = JsonNullable.of("Updated title");
+        undefined = JsonNullable.undefined();
+        value = "Updated title";
+    }
+
+    @Benchmark
+    public boolean isPresent() {
+        return jsonNullableMapper.isPresent(present);
+    }
+
+    @Benchmark
+    public boolean isPresentUndefined() {
+        return jsonNullableMapper.isPresent(undefined);
+    }
+
+    @Benchmark
+    public String unwrap() {
+        return jsonNullableMapper.unwrap(present);
+    }
+
+    @Benchmark
+    public JsonNullable<String> wrap() {
+        return jsonNullableMapper.wrap(value);
+    }
+}
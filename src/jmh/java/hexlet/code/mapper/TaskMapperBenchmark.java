@@ -0,0 +1,72 @@
+package hexlet.code.mapper;
+
+import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskMapperBenchmark {
+    @Param({"0", "5", "50"})
+    private int labelCount;
+
+    private TaskMapper taskMapper;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        // map(Task) and reverseLabels touch neither repositories nor the entity manager
+        taskMapper = new TaskMapperImpl();
+
+        var taskStatus = new TaskStatus();
+        taskStatus.setId(1L);
+        taskStatus.setSlug("to_review");
+
+        var assignee = new User();
+        assignee.setId(2L);
+
+        List<Label> labels = new ArrayList<>();
+        for (long i = 0; i < labelCount; i++) {
+            var label = new Label();
+            label.setId(i);
+            label.setName("label " + i);
+            labels.add(label);
+        }
+
+        task = new Task();
+        task.setId(3L);
+        task.setName("Fix race condition in file watcher initialization");
+        task.setDescription("The watcher starts before its listeners are registered");
+        task.setIndex(1024);
+        task.setTaskStatus(taskStatus);
+        task.setAssignee(assignee);
+        task.setLabels(labels);
+        task.setCreatedAt(LocalDate.of(2025, 1, 1));
+    }
+
+    @Benchmark
+    public TaskDTO map() {
+        return taskMapper.map(task);
+    }
+
+    @Benchmark
+    public List<Long> reverseLabels() {
+        return taskMapper.reverseLabels(task.getLabels());
+    }
+}
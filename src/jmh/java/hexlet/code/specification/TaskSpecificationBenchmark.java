@@ -0,0 +1,74 @@
+package hexlet.code.specification;
+
+import hexlet.code.AppApplication;
+import hexlet.code.dto.task.TaskParamsDTO;
+import hexlet.code.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the task filter specification and turns it into a Criteria predicate. The predicate
+ * needs a real CriteriaBuilder, so the application context is started once against in-memory H2.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskSpecificationBenchmark {
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private CriteriaBuilder criteriaBuilder;
+    private TaskSpecification taskSpecification;
+    private TaskParamsDTO params;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(AppApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.jpa.show-sql=false", "sentry.dsn=")
+                .run();
+        entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+        criteriaBuilder = entityManager.getCriteriaBuilder();
+        taskSpecification = context.getBean(TaskSpecification.class);
+
+        params = new TaskParamsDTO();
+        params.setTitleCont("watcher");
+        params.setTextCont("race");
+        params.setAssigneeId(1L);
+        params.setStatus("to_review");
+        params.setLabelId(1L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        context.close();
+    }
+
+    @Benchmark
+    public Specification<Task> build() {
+        return taskSpecification.build(params);
+    }
+
+    @Benchmark
+    public Predicate toPredicate() {
+        var query = criteriaBuilder.createQuery(Task.class);
+        var root = query.from(Task.class);
+        return taskSpecification.build(params).toPredicate(root, query, criteriaBuilder);
+    }
+}
@@ -0,0 +1,35 @@
+package hexlet.code.loadtest;
+
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+/**
+ * Switches a load test from the in-memory H2 of the test profile to an external database when
+ * {@code -PloadTest.dbUrl=...} is given, e.g. {@code jdbc:postgresql://localhost:5432/loadtest}
+ * (also {@code loadTest.dbUsername}, {@code loadTest.dbPassword}). Flyway migrates it on startup.
+ */
+final class LoadTestDatabase {
+    private LoadTestDatabase() {
+    }
+
+    static void register(DynamicPropertyRegistry registry) {
+        var url = System.getProperty("loadTest.dbUrl", "");
+        if (url.isBlank()) {
+            return;
+        }
+        var driver = DatabaseDriver.fromJdbcUrl(url);
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.datasource.driver-class-name", driver::getDriverClassName);
+        registry.add("spring.datasource.username", () -> System.getProperty("loadTest.dbUsername", "postgres"));
+        registry.add("spring.datasource.password", () -> System.getProperty("loadTest.dbPassword", ""));
+        if (driver == DatabaseDriver.POSTGRESQL) {
+            // Same as application-production.yml
+            registry.add("spring.datasource.hikari.data-source-properties.reWriteBatchedInserts", () -> "true");
+        }
+    }
+
+    static String describe() {
+        var url = System.getProperty("loadTest.dbUrl", "");
+        return url.isBlank() ? "h2:mem" : url;
+    }
+}
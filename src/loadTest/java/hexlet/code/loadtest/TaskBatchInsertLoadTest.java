@@ -0,0 +1,161 @@
+package hexlet.code.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.task.TaskCreateDTO;
+import hexlet.code.model.Label;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.service.TaskService;
+import hexlet.code.util.ModelGenerator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Times {@link TaskService#createAll} on batches of labelled tasks and writes tasks per second, per-batch
+ * latency and JDBC statement counts to {@code build/reports/load-test/batch-insert.json}. Run it once with
+ * {@code -PloadTest.orderInserts=true} and once without to compare Hibernate's insert/update ordering:
+ * {@code ./gradlew loadTest --tests '*TaskBatchInsertLoadTest' -PloadTest.orderInserts=true}.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "sentry.dsn="
+})
+@ActiveProfiles("test")
+public class TaskBatchInsertLoadTest {
+    private final int batchSize = Integer.getInteger("loadTest.batchSize", 500);
+    private final int batches = Integer.getInteger("loadTest.batches", 40);
+    private final int warmupBatches = Integer.getInteger("loadTest.warmupBatches", 10);
+    private final int labelsPerTask = Integer.getInteger("loadTest.labelsPerTask", 2);
+    private final boolean orderInserts = Boolean.getBoolean("loadTest.orderInserts");
+    private final Path reportDir = Path.of(System.getProperty("loadTest.reportDir", "build/reports/load-test"));
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ModelGenerator modelGenerator;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        LoadTestDatabase.register(registry);
+        var ordering = Boolean.toString(Boolean.getBoolean("loadTest.orderInserts"));
+        registry.add("spring.jpa.properties.hibernate.order_inserts", () -> ordering);
+        registry.add("spring.jpa.properties.hibernate.order_updates", () -> ordering);
+    }
+
+    @Test
+    void createAll() throws Exception {
+        var users = userRepository.saveAll(Instancio.of(modelGenerator.getUserModel())
+                .stream()
+                .limit(10)
+                .toList());
+        var statuses = taskStatusRepository.findAll();
+        if (statuses.isEmpty()) {
+            statuses = taskStatusRepository.saveAll(Instancio.of(modelGenerator.getTaskStatusModel())
+                    .stream()
+                    .limit(5)
+                    .toList());
+        }
+        List<Label> labels = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            var label = Instancio.of(modelGenerator.getLabelModel()).create();
+            label.setName("Insert label " + i);
+            labels.add(label);
+        }
+        labels = labelRepository.saveAll(labels);
+
+        var random = new Random(42);
+        for (int i = 0; i < warmupBatches; i++) {
+            taskService.createAll(batch(random, users, statuses, labels));
+        }
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        var latencies = new long[batches];
+        long total = 0;
+        for (int i = 0; i < batches; i++) {
+            var batch = batch(random, users, statuses, labels);
+            long start = System.nanoTime();
+            taskService.createAll(batch);
+            latencies[i] = System.nanoTime() - start;
+            total += latencies[i];
+        }
+        Arrays.sort(latencies);
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("batchSize", batchSize);
+        config.put("batches", batches);
+        config.put("warmupBatches", warmupBatches);
+        config.put("labelsPerTask", labelsPerTask);
+        config.put("orderInserts", orderInserts);
+        config.put("database", LoadTestDatabase.describe());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", Instant.now().toString());
+        report.put("config", config);
+        report.put("tasksPerSecond", (double) batchSize * batches / total * 1_000_000_000);
+        report.put("p50Ms", latencies[(batches - 1) / 2] / 1_000_000.0);
+        report.put("p99Ms", latencies[(int) Math.ceil(0.99 * batches) - 1] / 1_000_000.0);
+        report.put("statementsPerBatch", (double) statistics.getPrepareStatementCount() / batches);
+        Files.createDirectories(reportDir);
+        objectMapper.writerWithDefaultPrettyPrinter()
+                .writeValue(reportDir.resolve("batch-insert.json").toFile(), report);
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo((long) batchSize * batches);
+    }
+
+    private List<TaskCreateDTO> batch(Random random, List<User> users, List<TaskStatus> statuses,
+                                      List<Label> labels) {
+        List<TaskCreateDTO> batch = new ArrayList<>();
+        for (int i = 0; i < batchSize; i++) {
+            var dto = new TaskCreateDTO();
+            dto.setTitle("Inserted task " + random.nextInt());
+            dto.setContent("Inserted by the batch insert load test");
+            dto.setIndex(random.nextInt(1000));
+            dto.setStatus(statuses.get(random.nextInt(statuses.size())).getSlug());
+            dto.setAssigneeId(users.get(random.nextInt(users.size())).getId());
+            for (int j = 0; j < labelsPerTask; j++) {
+                dto.getTaskLabelIds().add(labels.get(random.nextInt(labels.size())).getId());
+            }
+            batch.add(dto);
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,347 @@
+package hexlet.code.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.util.ModelGenerator;
+import org.instancio.Instancio;
+import org.instancio.Select;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Seeds the database through {@link ModelGenerator}, then drives mixed login/list/filter/create/update
+ * traffic over HTTP against the embedded server and writes per-endpoint latency percentiles and
+ * throughput to {@code build/reports/load-test/report.json}. Sizes are set with
+ * {@code -PloadTest.<name>=<value>} on the Gradle command line; see {@link LoadTestDatabase} for
+ * running against PostgreSQL.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.springframework.security=WARN",
+        "sentry.dsn="
+})
+@ActiveProfiles("test")
+public class TaskManagerLoadTest {
+    private static final String PASSWORD = "password123";
+    private static final int PAGE_SIZE = 50;
+    private static final int SEED_BATCH_SIZE = 500;
+
+    private final int userCount = Integer.getInteger("loadTest.users", 50);
+    private final int labelCount = Integer.getInteger("loadTest.labels", 20);
+    private final int taskCount = Integer.getInteger("loadTest.tasks", 2000);
+    private final int concurrency = Integer.getInteger("loadTest.concurrency", 8);
+    private final int warmupSeconds = Integer.getInteger("loadTest.warmupSeconds", 5);
+    private final int durationSeconds = Integer.getInteger("loadTest.durationSeconds", 30);
+    private final int loginPercent = Integer.getInteger("loadTest.loginPercent", 5);
+    private final Path reportDir = Path.of(System.getProperty("loadTest.reportDir", "build/reports/load-test"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private ModelGenerator modelGenerator;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private List<User> users;
+    private List<TaskStatus> statuses;
+    private List<Long> taskIds;
+    private List<String> titleWords;
+    private Map<Long, String> tokens;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        LoadTestDatabase.register(registry);
+    }
+
+    @Test
+    void mixedTraffic() throws Exception {
+        seed();
+        // One login per user up front: hundreds of workers logging in at once would overrun the password hashing queue
+        tokens = new HashMap<>();
+        for (var user : users) {
+            var response = client.send(loginRequest(user), HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode()).isEqualTo(200);
+            tokens.put(user.getId(), response.body());
+        }
+
+        long measureFrom = System.nanoTime() + Duration.ofSeconds(warmupSeconds).toNanos();
+        long deadline = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+
+        Map<String, List<Long>> latencies = new HashMap<>();
+        Map<String, Integer> errors = new HashMap<>();
+        try (var workers = Executors.newFixedThreadPool(concurrency)) {
+            List<Future<Worker>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(new Worker(i, measureFrom, deadline)));
+            }
+            for (var future : futures) {
+                var worker = future.get();
+                worker.latencies.forEach((endpoint, values) ->
+                        latencies.computeIfAbsent(endpoint, key -> new ArrayList<>()).addAll(values));
+                worker.errors.forEach((endpoint, count) -> errors.merge(endpoint, count, Integer::sum));
+            }
+        }
+
+        var report = report(latencies, errors);
+        Files.createDirectories(reportDir);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportDir.resolve("report.json").toFile(), report);
+
+        assertThat(latencies).isNotEmpty();
+        assertThat(errors).as("failed requests per endpoint").isEmpty();
+    }
+
+    private void seed() {
+        var passwordDigest = passwordEncoder.encode(PASSWORD);
+        users = userRepository.saveAll(Instancio.of(modelGenerator.getUserModel())
+                .set(Select.field(User::getPasswordDigest), passwordDigest)
+                .stream()
+                .limit(userCount)
+                .toList());
+
+        statuses = taskStatusRepository.findAll();
+        if (statuses.isEmpty()) {
+            statuses = taskStatusRepository.saveAll(Instancio.of(modelGenerator.getTaskStatusModel())
+                    .stream()
+                    .limit(5)
+                    .toList());
+        }
+
+        List<Label> labels = new ArrayList<>();
+        for (int i = 0; i < labelCount; i++) {
+            var label = Instancio.of(modelGenerator.getLabelModel()).create();
+            label.setName("Load label " + i);
+            labels.add(label);
+        }
+        labels = labelRepository.saveAll(labels);
+
+        var random = new Random(42);
+        taskIds = new ArrayList<>();
+        titleWords = new ArrayList<>();
+        for (int from = 0; from < taskCount; from += SEED_BATCH_SIZE) {
+            List<Task> batch = new ArrayList<>();
+            for (int i = from; i < Math.min(from + SEED_BATCH_SIZE, taskCount); i++) {
+                var task = Instancio.of(modelGenerator.getTaskModel()).create();
+                task.setTaskStatus(statuses.get(random.nextInt(statuses.size())));
+                task.setAssignee(users.get(random.nextInt(users.size())));
+                if (!labels.isEmpty()) {
+                    task.getLabels().add(labels.get(random.nextInt(labels.size())));
+                }
+                batch.add(task);
+            }
+            taskRepository.saveAll(batch).forEach(task -> {
+                taskIds.add(task.getId());
+                titleWords.add(task.getName().split(" ")[0].toLowerCase());
+            });
+        }
+    }
+
+    private Map<String, Object> report(Map<String, List<Long>> latencies, Map<String, Integer> errors) {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        List<Long> all = new ArrayList<>();
+        latencies.keySet().stream().sorted().forEach(endpoint -> {
+            var values = latencies.get(endpoint);
+            all.addAll(values);
+            endpoints.put(endpoint, summary(values, errors.getOrDefault(endpoint, 0)));
+        });
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("users", userCount);
+        config.put("labels", labelCount);
+        config.put("tasks", taskCount);
+        config.put("concurrency", concurrency);
+        config.put("warmupSeconds", warmupSeconds);
+        config.put("durationSeconds", durationSeconds);
+        config.put("loginPercent", loginPercent);
+        config.put("database", LoadTestDatabase.describe());
+        config.put("virtualThreads", environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false));
+        config.put("poolSize", environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", Instant.now().toString());
+        report.put("config", config);
+        report.put("total", summary(all, errors.values().stream().mapToInt(Integer::intValue).sum()));
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    private Map<String, Object> summary(List<Long> latencies, int errorCount) {
+        var sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", sorted.length);
+        summary.put("errors", errorCount);
+        summary.put("throughputPerSecond", (double) sorted.length / durationSeconds);
+        summary.put("p50Ms", percentileMillis(sorted, 50));
+        summary.put("p99Ms", percentileMillis(sorted, 99));
+        summary.put("maxMs", sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+        return summary;
+    }
+
+    private static double percentileMillis(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank - 1, 0)] / 1_000_000.0;
+    }
+
+    private final class Worker implements Callable<Worker> {
+        private final Random random;
+        private final User user;
+        private final long measureFrom;
+        private final long deadline;
+        private final Map<String, List<Long>> latencies = new HashMap<>();
+        private final Map<String, Integer> errors = new HashMap<>();
+        private String token;
+
+        private Worker(int number, long measureFrom, long deadline) {
+            this.random = new Random(number);
+            this.user = users.get(number % users.size());
+            this.token = tokens.get(user.getId());
+            this.measureFrom = measureFrom;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public Worker call() throws Exception {
+            while (System.nanoTime() < deadline) {
+                int roll = random.nextInt(100);
+                if (roll < loginPercent) {
+                    login();
+                } else if (roll < 40) {
+                    send("GET /api/tasks?pageSize", get("/api/tasks?pageSize=" + PAGE_SIZE));
+                } else if (roll < 70) {
+                    var status = statuses.get(random.nextInt(statuses.size())).getSlug();
+                    var word = titleWords.get(random.nextInt(titleWords.size()));
+                    send("GET /api/tasks?status&titleCont", get("/api/tasks?pageSize=" + PAGE_SIZE
+                            + "&status=" + encode(status) + "&titleCont=" + encode(word)));
+                } else if (roll < 85) {
+                    var task = Map.of(
+                            "title", "Load task " + random.nextInt(),
+                            "status", statuses.get(random.nextInt(statuses.size())).getSlug(),
+                            "index", random.nextInt(100),
+                            "assigneeId", user.getId());
+                    send("POST /api/tasks", json("/api/tasks", "POST", task));
+                } else {
+                    var id = taskIds.get(random.nextInt(taskIds.size()));
+                    send("PUT /api/tasks/{id}", json("/api/tasks/" + id, "PUT",
+                            Map.of("title", "Updated task " + random.nextInt())));
+                }
+            }
+            return this;
+        }
+
+        private void login() throws IOException, InterruptedException {
+            var response = send("POST /api/login", loginRequest(user));
+            if (response.statusCode() == 200) {
+                token = response.body();
+            }
+        }
+
+        private HttpRequest get(String path) {
+            return HttpRequest.newBuilder(uri(path))
+                    .header("Authorization", "Bearer " + token)
+                    .GET()
+                    .build();
+        }
+
+        private HttpRequest json(String path, String method, Object body) throws IOException {
+            return HttpRequest.newBuilder(uri(path))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        }
+
+        private HttpResponse<String> send(String endpoint, HttpRequest request)
+                throws IOException, InterruptedException {
+            long start = System.nanoTime();
+            var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            long elapsed = System.nanoTime() - start;
+            if (start >= measureFrom && start < deadline) {
+                latencies.computeIfAbsent(endpoint, key -> new ArrayList<>()).add(elapsed);
+                if (response.statusCode() >= 400) {
+                    errors.merge(endpoint, 1, Integer::sum);
+                }
+            }
+            return response;
+        }
+
+    }
+
+    private HttpRequest loginRequest(User user) throws IOException {
+        return HttpRequest.newBuilder(uri("/api/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(
+                        Map.of("username", user.getEmail(), "password", PASSWORD))))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
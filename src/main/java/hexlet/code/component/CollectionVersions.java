@@ -0,0 +1,50 @@
+package hexlet.code.component;
+
+import static hexlet.code.utils.TransactionUtils.afterCommit;
+
+import hexlet.code.utils.RoutingUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Per-collection version counters behind the weak ETags of the API. Services bump a counter after
+ * their transaction commits; controllers read it before loading data, so an ETag never claims a
+ * newer state than the body it is sent with. The boot epoch keeps ETags from a previous run or
+ * another instance from matching.
+ */
+@Component
+public class CollectionVersions {
+    public enum Type {
+        TASKS, TASK_STATUSES, LABELS, USERS
+    }
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final Map<Type, AtomicLong> versions = new EnumMap<>(Type.class);
+
+    public CollectionVersions() {
+        for (var type : Type.values()) {
+            versions.put(type, new AtomicLong());
+        }
+    }
+
+    public void bump(Type type) {
+        afterCommit(versions.get(type)::incrementAndGet);
+    }
+
+    /**
+     * Also pins the rest of the request to the primary: versions are bumped when the primary commits,
+     * so a lagging replica could pair a new ETag with an old body and leave clients on 304 until the
+     * next write.
+     */
+    public String eTag(Type... types) {
+        RoutingUtils.pinRequestToPrimary();
+        return Arrays.stream(types)
+                .map(type -> String.valueOf(versions.get(type).get()))
+                .collect(Collectors.joining("-", "W/\"" + epoch + "-", "\""));
+    }
+}
@@ -0,0 +1,55 @@
+package hexlet.code.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+
+/**
+ * Remembers users who committed a write in the last few seconds, so their reads stay on the primary
+ * until the replica has had time to catch up. Registered with the transaction manager as an execution
+ * listener; anonymous writes such as registration are not tracked.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "jdbc-url")
+public class RecentWriters implements TransactionExecutionListener {
+    private final Cache<String, Boolean> writers;
+
+    public RecentWriters(@Value("${app.datasource.replica.read-your-writes:5s}") Duration window) {
+        this.writers = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly()) {
+            return;
+        }
+        var user = currentUser();
+        if (user != null) {
+            writers.put(user, Boolean.TRUE);
+        }
+    }
+
+    public boolean isCurrentUserRecentWriter() {
+        var user = currentUser();
+        return user != null && writers.getIfPresent(user) != null;
+    }
+
+    private static String currentUser() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
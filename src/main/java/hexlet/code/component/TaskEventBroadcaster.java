@@ -0,0 +1,164 @@
+package hexlet.code.component;
+
+import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.TaskParamsDTO;
+import hexlet.code.event.TaskBatchChangedEvent;
+import hexlet.code.event.TaskChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes committed task changes to SSE subscribers whose filter they match. Every connection has
+ * a bounded queue drained on {@code taskEventsExecutor}; a client that lets it fill up is
+ * disconnected and has to reload, instead of the server buffering an unbounded backlog for it.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskEventBroadcaster {
+    @Qualifier("taskEventsExecutor")
+    private final ThreadPoolTaskExecutor taskEventsExecutor;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    @Value("${tasks.events.queue-capacity:256}")
+    private int queueCapacity;
+
+    public SseEmitter subscribe(TaskParamsDTO filter) {
+        var emitter = new SseEmitter();
+        var subscription = new Subscription(emitter, filter, new ArrayBlockingQueue<>(queueCapacity),
+                new AtomicBoolean());
+        subscriptions.add(subscription);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onError(e -> subscriptions.remove(subscription));
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        for (var subscription : subscriptions) {
+            toSseEvent(event, subscription.filter()).ifPresent(sseEvent -> enqueue(subscription, sseEvent));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTaskBatchChanged(TaskBatchChangedEvent event) {
+        for (var subscription : subscriptions) {
+            toSseEvent(event, subscription.filter()).ifPresent(sseEvent -> enqueue(subscription, sseEvent));
+        }
+    }
+
+    @Scheduled(fixedRateString = "${tasks.events.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (var subscription : subscriptions) {
+            enqueue(subscription, SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    /**
+     * Deletions go to everyone, since the filter can no longer be checked against a deleted task.
+     * An update that takes a task out of the subscriber's filter is sent as "removed".
+     */
+    private static Optional<SseEventBuilder> toSseEvent(TaskChangedEvent event, TaskParamsDTO filter) {
+        return switch (event.type()) {
+            case CREATED -> matches(filter, event.task())
+                    ? Optional.of(sseEvent("created", event.task()))
+                    : Optional.empty();
+            case UPDATED -> {
+                if (matches(filter, event.task())) {
+                    yield Optional.of(sseEvent("updated", event.task()));
+                }
+                yield matches(filter, event.previous())
+                        ? Optional.of(sseEvent("removed", Map.of("id", event.taskId())))
+                        : Optional.empty();
+            }
+            case DELETED -> Optional.of(sseEvent("deleted", Map.of("id", event.taskId())));
+        };
+    }
+
+    /**
+     * A batch takes one place in the subscriber's queue, however many tasks it holds.
+     */
+    private static Optional<SseEventBuilder> toSseEvent(TaskBatchChangedEvent event, TaskParamsDTO filter) {
+        return switch (event.type()) {
+            case CREATED -> {
+                var matching = event.tasks().stream()
+                        .filter(task -> matches(filter, task))
+                        .toList();
+                yield matching.isEmpty() ? Optional.empty() : Optional.of(sseEvent("created-batch", matching));
+            }
+            case DELETED -> Optional.of(sseEvent("deleted-batch", Map.of("ids", event.taskIds())));
+        };
+    }
+
+    private static SseEventBuilder sseEvent(String name, Object data) {
+        return SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+    }
+
+    private static boolean matches(TaskParamsDTO filter, TaskDTO task) {
+        return (filter.getAssigneeId() == null || filter.getAssigneeId().equals(task.getAssigneeId()))
+                && (filter.getStatus() == null || filter.getStatus().equals(task.getStatus()))
+                && (filter.getLabelId() == null || task.getTaskLabelIds().contains(filter.getLabelId()))
+                && (filter.getTitleCont() == null || contains(task.getTitle(), filter.getTitleCont()))
+                && (filter.getTextCont() == null || contains(task.getTitle(), filter.getTextCont())
+                        || contains(task.getContent(), filter.getTextCont()));
+    }
+
+    private static boolean contains(String text, String query) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(query.toLowerCase(Locale.ROOT));
+    }
+
+    private void enqueue(Subscription subscription, SseEventBuilder sseEvent) {
+        if (!subscription.queue().offer(sseEvent)) {
+            subscriptions.remove(subscription);
+            subscription.emitter().complete();
+            return;
+        }
+        scheduleDrain(subscription);
+    }
+
+    private void scheduleDrain(Subscription subscription) {
+        if (subscription.draining().compareAndSet(false, true)) {
+            taskEventsExecutor.execute(() -> drain(subscription));
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        try {
+            SseEventBuilder sseEvent;
+            while ((sseEvent = subscription.queue().poll()) != null) {
+                subscription.emitter().send(sseEvent);
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscriptions.remove(subscription);
+            subscription.emitter().completeWithError(e);
+            return;
+        } finally {
+            subscription.draining().set(false);
+        }
+        // An event offered after the last poll but before the flag was reset would otherwise wait
+        if (!subscription.queue().isEmpty()) {
+            scheduleDrain(subscription);
+        }
+    }
+
+    private record Subscription(SseEmitter emitter, TaskParamsDTO filter, Queue<SseEventBuilder> queue,
+                                AtomicBoolean draining) {
+    }
+}
@@ -0,0 +1,253 @@
+package hexlet.code.component;
+
+import hexlet.code.event.TaskBatchChangedEvent;
+import hexlet.code.repository.TaskRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * In-memory trigram index over task names and descriptions. It only narrows down candidate
+ * ids for the substring filters; the database still checks the LIKE condition, so extra ids
+ * are harmless while a missing id would hide a match. Updates come from
+ * {@link TaskSearchIndexListener}, and from {@link TaskBatchChangedEvent} for bulk deletes that bypass it.
+ * They only cover writes made by this instance, so the index
+ * is only correct while a single instance writes to the database.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskSearchIndex implements MeterBinder {
+    private static final int GRAM_LENGTH = 3;
+    // Rough per-entry costs of the HashMap/HashSet nodes, boxed ids and gram strings
+    private static final long POSTING_BYTES = 48;
+    private static final long GRAM_BYTES = 96;
+    private static final long TASK_BYTES = 64;
+
+    private final TaskRepository taskRepository;
+
+    private final Map<String, Set<Long>> nameGrams = new HashMap<>();
+    private final Map<String, Set<Long>> descriptionGrams = new HashMap<>();
+    private final Map<Long, IndexedTask> tasks = new HashMap<>();
+    // Listener updates that arrive before the build finishes; an empty value is a removal
+    private final Map<Long, Optional<IndexedTask>> pending = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long postings;
+    private volatile boolean ready;
+
+    @Value("${search.index.enabled:false}")
+    private boolean enabled;
+
+    @Value("${search.index.max-candidates:1000}")
+    private int maxCandidates;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void build() {
+        if (!enabled) {
+            return;
+        }
+        try (var rows = taskRepository.streamSearchText()) {
+            rows.forEach(row -> {
+                var task = Optional.of(new IndexedTask(lowerCase(row.getName()), lowerCase(row.getDescription())));
+                withLock(lock.writeLock(), () -> {
+                    applyUnlocked(row.getId(), task);
+                    return null;
+                });
+            });
+        }
+        // The scan may have read a task before a write that committed meanwhile, so buffered updates win
+        withLock(lock.writeLock(), () -> {
+            pending.forEach(this::applyUnlocked);
+            pending.clear();
+            ready = true;
+            return null;
+        });
+    }
+
+    public void put(Long id, String name, String description) {
+        update(id, Optional.of(new IndexedTask(lowerCase(name), lowerCase(description))));
+    }
+
+    public void remove(Long id) {
+        update(id, Optional.empty());
+    }
+
+    @TransactionalEventListener
+    public void onTaskBatchChanged(TaskBatchChangedEvent event) {
+        if (event.type() == TaskBatchChangedEvent.Type.DELETED) {
+            event.taskIds().forEach(this::remove);
+        }
+    }
+
+    /**
+     * Ids of tasks whose name may contain the query, or empty when the index cannot narrow
+     * the search down (disabled, still building, query shorter than a trigram or too common).
+     */
+    public Optional<Set<Long>> findByName(String query) {
+        return find(query, List.of(nameGrams));
+    }
+
+    /**
+     * Same as {@link #findByName(String)}, but for tasks whose name or description may contain the query.
+     */
+    public Optional<Set<Long>> findByText(String query) {
+        return find(query, List.of(nameGrams, descriptionGrams));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tasks.search.index.tasks", this, index -> index.read(index.tasks::size))
+                .description("Tasks held in the in-memory search index")
+                .register(registry);
+        Gauge.builder("tasks.search.index.postings", this, index -> index.read(() -> index.postings))
+                .description("Task ids stored across all trigram postings")
+                .register(registry);
+        Gauge.builder("tasks.search.index.memory", this, TaskSearchIndex::estimatedBytes)
+                .description("Estimated heap used by the in-memory search index")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+    }
+
+    private Optional<Set<Long>> find(String query, List<Map<String, Set<Long>>> fields) {
+        if (!enabled || !ready) {
+            return Optional.empty();
+        }
+        var grams = grams(lowerCase(query));
+        if (grams.isEmpty()) {
+            return Optional.empty();
+        }
+        return withLock(lock.readLock(), () -> {
+            Set<Long> candidates = new HashSet<>();
+            for (var field : fields) {
+                candidates.addAll(intersect(field, grams));
+                if (candidates.size() > maxCandidates) {
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(candidates);
+        });
+    }
+
+    private static Set<Long> intersect(Map<String, Set<Long>> field, Set<String> grams) {
+        List<Set<Long>> postingLists = new ArrayList<>();
+        for (var gram : grams) {
+            var ids = field.get(gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            postingLists.add(ids);
+        }
+        postingLists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(postingLists.get(0));
+        for (int i = 1; i < postingLists.size() && !result.isEmpty(); i++) {
+            result.retainAll(postingLists.get(i));
+        }
+        return result;
+    }
+
+    private void update(Long id, Optional<IndexedTask> task) {
+        if (!enabled) {
+            return;
+        }
+        withLock(lock.writeLock(), () -> {
+            if (ready) {
+                applyUnlocked(id, task);
+            } else {
+                pending.put(id, task);
+            }
+            return null;
+        });
+    }
+
+    private void applyUnlocked(Long id, Optional<IndexedTask> task) {
+        removeUnlocked(id);
+        task.ifPresent(indexed -> {
+            tasks.put(id, indexed);
+            grams(indexed.name()).forEach(gram -> addPosting(nameGrams, gram, id));
+            grams(indexed.description()).forEach(gram -> addPosting(descriptionGrams, gram, id));
+        });
+    }
+
+    private void removeUnlocked(Long id) {
+        var task = tasks.remove(id);
+        if (task != null) {
+            grams(task.name()).forEach(gram -> removePosting(nameGrams, gram, id));
+            grams(task.description()).forEach(gram -> removePosting(descriptionGrams, gram, id));
+        }
+    }
+
+    private void addPosting(Map<String, Set<Long>> field, String gram, Long id) {
+        if (field.computeIfAbsent(gram, key -> new HashSet<>()).add(id)) {
+            postings++;
+        }
+    }
+
+    private void removePosting(Map<String, Set<Long>> field, String gram, Long id) {
+        var ids = field.get(gram);
+        if (ids != null && ids.remove(id)) {
+            postings--;
+            if (ids.isEmpty()) {
+                field.remove(gram);
+            }
+        }
+    }
+
+    private double estimatedBytes() {
+        return read(() -> postings * POSTING_BYTES
+                + (long) (nameGrams.size() + descriptionGrams.size()) * GRAM_BYTES
+                + tasks.values().stream()
+                        .mapToLong(task -> TASK_BYTES + 2L * (task.name().length() + task.description().length()))
+                        .sum());
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static String lowerCase(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private <T> T read(Supplier<T> action) {
+        return withLock(lock.readLock(), action);
+    }
+
+    private static <T> T withLock(Lock lock, Supplier<T> action) {
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record IndexedTask(String name, String description) {
+    }
+}
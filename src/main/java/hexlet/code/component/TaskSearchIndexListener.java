@@ -0,0 +1,35 @@
+package hexlet.code.component;
+
+import static hexlet.code.utils.TransactionUtils.afterCommit;
+
+import hexlet.code.model.Task;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Keeps {@link TaskSearchIndex} in step with task writes. Changes are applied after commit,
+ * so a rolled back transaction never reaches the index. Hibernate creates the listener while the
+ * entity manager factory is still starting, hence the lazy lookup of the index.
+ */
+@RequiredArgsConstructor
+public class TaskSearchIndexListener {
+    private final ObjectProvider<TaskSearchIndex> taskSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Task task) {
+        var id = task.getId();
+        var name = task.getName();
+        var description = task.getDescription();
+        afterCommit(() -> taskSearchIndex.getObject().put(id, name, description));
+    }
+
+    @PostRemove
+    public void onRemove(Task task) {
+        var id = task.getId();
+        afterCommit(() -> taskSearchIndex.getObject().remove(id));
+    }
+}
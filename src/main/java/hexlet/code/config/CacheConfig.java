@@ -0,0 +1,40 @@
+package hexlet.code.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String TASK_COUNTS = "taskCounts";
+    public static final String USER_IDS_BY_EMAIL = "userIdsByEmail";
+
+    @Value("${cache.task-counts.ttl:5s}")
+    private Duration taskCountsTtl;
+
+    @Value("${cache.user-ids.max-size:10000}")
+    private long userIdsMaxSize;
+
+    @Bean
+    public CacheManager cacheManager() {
+        var cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(TASK_COUNTS, Caffeine.newBuilder()
+                .expireAfterWrite(taskCountsTtl)
+                .maximumSize(1)
+                .build());
+        cacheManager.registerCustomCache(USER_IDS_BY_EMAIL, Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofHours(1))
+                .maximumSize(userIdsMaxSize)
+                .build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
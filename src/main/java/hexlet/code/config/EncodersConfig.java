@@ -6,10 +6,13 @@ import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
+import hexlet.code.component.CachingJwtDecoder;
 import hexlet.code.component.RsaKeyProperties;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
@@ -23,9 +26,13 @@ public class EncodersConfig {
     @Autowired
     private RsaKeyProperties rsaKeys;
 
+    @Value("${security.jwt.cache.max-size:10000}")
+    private long jwtCacheMaxSize;
+
     @Bean
-    JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(rsaKeys.getPublicKey()).build();
+    CachingJwtDecoder jwtDecoder() {
+        JwtDecoder decoder = NimbusJwtDecoder.withPublicKey(rsaKeys.getPublicKey()).build();
+        return new CachingJwtDecoder(decoder, jwtCacheMaxSize);
     }
 
     @Bean
@@ -36,7 +43,20 @@ public class EncodersConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+            @Value("${security.password.hashing.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+            int threads,
+            @Value("${security.password.hashing.queue-capacity:100}") int queueCapacity) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("password-hashing-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        return executor;
     }
 }
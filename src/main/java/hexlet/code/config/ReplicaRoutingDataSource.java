@@ -0,0 +1,32 @@
+package hexlet.code.config;
+
+import hexlet.code.component.RecentWriters;
+import hexlet.code.utils.RoutingUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the replica unless the current user has just written or the request
+ * is pinned to the primary (see {@link hexlet.code.component.CollectionVersions#eTag}). Must sit
+ * behind a {@code LazyConnectionDataSourceProxy}: the read-only flag is only known once the
+ * transaction has started, after the JPA transaction manager asked for a connection.
+ */
+@RequiredArgsConstructor
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final RecentWriters recentWriters;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !RoutingUtils.isRequestPinnedToPrimary()
+                && !recentWriters.isCurrentUserRecentWriter()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+}
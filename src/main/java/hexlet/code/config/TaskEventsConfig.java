@@ -0,0 +1,24 @@
+package hexlet.code.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+public class TaskEventsConfig {
+    /**
+     * Writes queued events to SSE connections, so a slow client never blocks the committing thread.
+     * Each connection has at most one pending drain task, hence the unbounded queue.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor taskEventsExecutor(@Value("${tasks.events.threads:4}") int threads) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("task-events-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        return executor;
+    }
+}
@@ -1,32 +1,24 @@
 package hexlet.code.controller;
 
 import hexlet.code.dto.AuthRequest;
-import hexlet.code.utils.JWTUtils;
+import hexlet.code.service.AuthenticationService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
 public class AuthenticationController {
 
-    private final JWTUtils jwtUtils;
-    private final AuthenticationManager authenticationManager;
+    private final AuthenticationService authenticationService;
 
     @PostMapping("/login")
-    public String login(@RequestBody AuthRequest authRequest) {
-        var authentication = new UsernamePasswordAuthenticationToken(
-                authRequest.getUsername(),
-                authRequest.getPassword()
-        );
-
-        authenticationManager.authenticate(authentication);
-
-        return jwtUtils.generateToken(authRequest.getUsername());
+    public CompletableFuture<String> login(@RequestBody AuthRequest authRequest) {
+        return authenticationService.login(authRequest);
     }
 }
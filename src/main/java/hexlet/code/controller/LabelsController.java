@@ -1,5 +1,6 @@
 package hexlet.code.controller;
 
+import hexlet.code.component.CollectionVersions;
 import hexlet.code.dto.label.LabelCreateDTO;
 import hexlet.code.dto.label.LabelDTO;
 import hexlet.code.dto.label.LabelUpdateDTO;
@@ -9,6 +10,7 @@ import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,9 +19,13 @@ import java.util.List;
 @AllArgsConstructor
 public class LabelsController {
     private final LabelServiceImpl labelService;
+    private final CollectionVersions collectionVersions;
 
     @GetMapping
-    public ResponseEntity<List<LabelDTO>> index() {
+    public ResponseEntity<List<LabelDTO>> index(WebRequest request) {
+        if (request.checkNotModified(collectionVersions.eTag(CollectionVersions.Type.LABELS))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         var labels = labelService.findAll();
         return ResponseEntity.ok()
                 .header("X-Total-Count", String.valueOf(labels.size()))
@@ -27,7 +33,10 @@ public class LabelsController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<LabelDTO> show(@PathVariable Long id) {
+    public ResponseEntity<LabelDTO> show(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(collectionVersions.eTag(CollectionVersions.Type.LABELS))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         LabelDTO labelDTO = labelService.findById(id);
         return ResponseEntity.ok(labelDTO);
     }
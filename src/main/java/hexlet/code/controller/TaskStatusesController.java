@@ -1,5 +1,6 @@
 package hexlet.code.controller;
 
+import hexlet.code.component.CollectionVersions;
 import hexlet.code.dto.taskStatus.TaskStatusCreateDTO;
 import hexlet.code.dto.taskStatus.TaskStatusDTO;
 import hexlet.code.dto.taskStatus.TaskStatusUpdateDTO;
@@ -10,6 +11,7 @@ import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,9 +20,13 @@ import java.util.List;
 @AllArgsConstructor
 public class TaskStatusesController {
     private final TaskStatusService taskStatusService;
+    private final CollectionVersions collectionVersions;
 
     @GetMapping
-    public ResponseEntity<List<TaskStatusDTO>> index() {
+    public ResponseEntity<List<TaskStatusDTO>> index(WebRequest request) {
+        if (request.checkNotModified(collectionVersions.eTag(CollectionVersions.Type.TASK_STATUSES))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         var taskStatuses = taskStatusService.findAll();
         return ResponseEntity.ok()
                 .header("X-Total-Count", String.valueOf(taskStatuses.size()))
@@ -28,7 +34,10 @@ public class TaskStatusesController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<TaskStatusDTO> show(@PathVariable Long id) {
+    public ResponseEntity<TaskStatusDTO> show(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(collectionVersions.eTag(CollectionVersions.Type.TASK_STATUSES))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         TaskStatusDTO taskStatusDTO = taskStatusService.findById(id);
         return ResponseEntity.ok(taskStatusDTO);
     }
@@ -1,16 +1,31 @@
 package hexlet.code.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import hexlet.code.component.CollectionVersions;
+import hexlet.code.component.TaskEventBroadcaster;
 import hexlet.code.dto.task.TaskCreateDTO;
 import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.TaskMoveDTO;
 import hexlet.code.dto.task.TaskParamsDTO;
+import hexlet.code.dto.task.TaskSummaryDTO;
 import hexlet.code.dto.task.TaskUpdateDTO;
 import hexlet.code.service.TaskService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -18,27 +33,112 @@ import java.util.List;
 @AllArgsConstructor
 public class TasksController {
     private final TaskService taskService;
+    private final CollectionVersions collectionVersions;
+    private final ObjectMapper objectMapper;
+    private final TaskEventBroadcaster taskEventBroadcaster;
 
     @GetMapping
-    public ResponseEntity<List<TaskDTO>> index(TaskParamsDTO params) {
+    public ResponseEntity<List<TaskDTO>> index(@Valid TaskParamsDTO params, WebRequest request) {
+        if (request.checkNotModified(tasksETag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        if (params.getPageSize() != null) {
+            return page(params);
+        }
         var tasks = taskService.findAll(params);
         return ResponseEntity.ok()
                 .header("X-Total-Count", String.valueOf(tasks.size()))
                 .body(tasks);
     }
 
+    private ResponseEntity<List<TaskDTO>> page(TaskParamsDTO params) {
+        var page = taskService.findPage(params);
+        var response = ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(taskService.count(params)));
+        if (page.hasNext()) {
+            response.header("X-Next-Cursor",
+                    "afterIndex=" + page.getNextAfterIndex() + "&afterId=" + page.getNextAfterId());
+        }
+        return response.body(page.getContent());
+    }
+
+    /**
+     * Streams the matching tasks as newline-delimited JSON, one chunk of rows at a time.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(@Valid TaskParamsDTO params) {
+        var writer = objectMapper.writerFor(TaskDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = out -> {
+            try (var generator = objectMapper.createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                taskService.export(params, task -> writeLine(writer, generator, task));
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private static void writeLine(ObjectWriter writer, JsonGenerator generator, TaskDTO task) {
+        try {
+            writer.writeValue(generator, task);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Task counts by status, assignee and label for the same filters as the index; paging parameters are ignored.
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<TaskSummaryDTO> summary(@Valid TaskParamsDTO params, WebRequest request) {
+        if (request.checkNotModified(tasksETag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(taskService.summary(params));
+    }
+
+    /**
+     * Server-sent events for committed changes of tasks matching the filter: "created" and "updated"
+     * carry the task, "removed" (no longer matches the filter) and "deleted" carry its id. Batch creates
+     * arrive as one "created-batch" with the matching tasks, bulk deletes as one "deleted-batch" with their ids.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> events(@Valid TaskParamsDTO params) {
+        return ResponseEntity.ok(taskEventBroadcaster.subscribe(params));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<TaskDTO> show(@PathVariable Long id) {
+    public ResponseEntity<TaskDTO> show(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(tasksETag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         TaskDTO taskDTO = taskService.findById(id);
         return ResponseEntity.ok(taskDTO);
     }
 
+    // Task responses carry status slugs and assignee ids, and deleting a user deletes their tasks
+    private String tasksETag() {
+        return collectionVersions.eTag(CollectionVersions.Type.TASKS, CollectionVersions.Type.TASK_STATUSES,
+                CollectionVersions.Type.USERS);
+    }
+
     @PostMapping
     public ResponseEntity<TaskDTO> create(@Valid @RequestBody TaskCreateDTO taskCreateDTO) {
         TaskDTO created = taskService.create(taskCreateDTO);
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<TaskDTO>> createBatch(
+            @RequestBody @Size(min = 1, max = 1000, message = "Batch must contain between 1 and 1000 tasks")
+            List<@Valid TaskCreateDTO> taskCreateDTOs) {
+        List<TaskDTO> created = taskService.createAll(taskCreateDTOs);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<TaskDTO> update(@PathVariable Long id,
                                           @Valid @RequestBody TaskUpdateDTO taskUpdateDTO) {
@@ -46,6 +146,12 @@ public class TasksController {
         return ResponseEntity.ok(updated);
     }
 
+    @PostMapping("/{id}/move")
+    public ResponseEntity<TaskDTO> move(@PathVariable Long id, @Valid @RequestBody TaskMoveDTO taskMoveDTO) {
+        TaskDTO moved = taskService.move(id, taskMoveDTO);
+        return ResponseEntity.ok(moved);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         taskService.delete(id);
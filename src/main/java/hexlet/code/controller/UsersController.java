@@ -1,5 +1,6 @@
 package hexlet.code.controller;
 
+import hexlet.code.component.CollectionVersions;
 import hexlet.code.dto.user.UserCreateDTO;
 import hexlet.code.dto.user.UserDTO;
 import hexlet.code.dto.user.UserRegistrationDTO;
@@ -13,6 +14,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,10 +23,14 @@ import java.util.List;
 @AllArgsConstructor
 public class UsersController {
     private final UserService userService;
+    private final CollectionVersions collectionVersions;
     private final CustomUserDetailsService customUserDetailsService;
 
     @GetMapping
-    public ResponseEntity<List<UserDTO>> getAllUsers() {
+    public ResponseEntity<List<UserDTO>> getAllUsers(WebRequest request) {
+        if (request.checkNotModified(collectionVersions.eTag(CollectionVersions.Type.USERS))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         var users = userService.findAll();
         return ResponseEntity.ok()
                 .header("X-Total-Count", String.valueOf(users.size()))
@@ -45,7 +51,10 @@ public class UsersController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<UserDTO> showUser(@PathVariable Long id) {
+    public ResponseEntity<UserDTO> showUser(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(collectionVersions.eTag(CollectionVersions.Type.USERS))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         UserDTO userDTO = userService.findById(id);
         return ResponseEntity.ok(userDTO);
     }
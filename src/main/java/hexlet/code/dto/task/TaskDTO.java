@@ -3,6 +3,7 @@ package hexlet.code.dto.task;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDate;
@@ -11,6 +12,7 @@ import java.util.List;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class TaskDTO {
     private Long id;
     private String title;
@@ -25,4 +27,15 @@ public class TaskDTO {
 
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
     private LocalDate createdAt;
+
+    public TaskDTO(Long id, String title, int index, String content, String status, Long assigneeId,
+                   LocalDate createdAt) {
+        this.id = id;
+        this.title = title;
+        this.index = index;
+        this.content = content;
+        this.status = status;
+        this.assigneeId = assigneeId;
+        this.createdAt = createdAt;
+    }
 }
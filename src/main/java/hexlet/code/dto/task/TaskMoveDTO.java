@@ -0,0 +1,19 @@
+package hexlet.code.dto.task;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Target of a drag-and-drop move. Without neighbours the task goes to the end of the column; with only
+ * one of them it is placed right next to it.
+ */
+@Getter
+@Setter
+public class TaskMoveDTO {
+    @NotBlank(message = "Task status is required")
+    private String status;
+
+    private Long afterId;
+    private Long beforeId;
+}
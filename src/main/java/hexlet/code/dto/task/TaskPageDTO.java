@@ -0,0 +1,18 @@
+package hexlet.code.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TaskPageDTO {
+    private List<TaskDTO> content;
+    private Integer nextAfterIndex;
+    private Long nextAfterId;
+
+    public boolean hasNext() {
+        return nextAfterId != null;
+    }
+}
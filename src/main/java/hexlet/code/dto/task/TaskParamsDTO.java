@@ -1,5 +1,7 @@
 package hexlet.code.dto.task;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -7,7 +9,19 @@ import lombok.Setter;
 @Setter
 public class TaskParamsDTO {
     private String titleCont;
+    private String textCont;
     private Long assigneeId;
     private String status;
     private Long labelId;
+
+    private Integer afterIndex;
+    private Long afterId;
+
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = 500, message = "Page size must be at most 500")
+    private Integer pageSize;
+
+    public boolean hasFilters() {
+        return titleCont != null || textCont != null || assigneeId != null || status != null || labelId != null;
+    }
 }
@@ -0,0 +1,20 @@
+package hexlet.code.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Task counts for a filter. Counts are per task, so a task with several labels is counted once for each of them
+ * in {@code byLabel}, and tasks without labels appear there not at all.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskSummaryDTO {
+    private long total;
+    private Map<String, Long> byStatus;
+    private Map<Long, Long> byAssignee;
+    private long unassigned;
+    private Map<Long, Long> byLabel;
+}
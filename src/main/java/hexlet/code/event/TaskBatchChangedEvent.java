@@ -0,0 +1,26 @@
+package hexlet.code.event;
+
+import hexlet.code.dto.task.TaskDTO;
+
+import java.util.List;
+
+/**
+ * Published instead of one {@link TaskChangedEvent} per task when many tasks change in one statement
+ * or batch, so subscribers receive a single message for all of them.
+ *
+ * @param taskIds ids of the changed tasks
+ * @param tasks created tasks, empty for deletions
+ */
+public record TaskBatchChangedEvent(Type type, List<Long> taskIds, List<TaskDTO> tasks) {
+    public enum Type {
+        CREATED, DELETED
+    }
+
+    public static TaskBatchChangedEvent created(List<TaskDTO> tasks) {
+        return new TaskBatchChangedEvent(Type.CREATED, tasks.stream().map(TaskDTO::getId).toList(), tasks);
+    }
+
+    public static TaskBatchChangedEvent deleted(List<Long> taskIds) {
+        return new TaskBatchChangedEvent(Type.DELETED, taskIds, List.of());
+    }
+}
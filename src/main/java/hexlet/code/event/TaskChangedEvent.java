@@ -0,0 +1,27 @@
+package hexlet.code.event;
+
+import hexlet.code.dto.task.TaskDTO;
+
+/**
+ * Published by the task service inside its transaction; listeners should react after commit.
+ *
+ * @param task state after the change, null for deletions
+ * @param previous state before the change, only set for updates
+ */
+public record TaskChangedEvent(Type type, Long taskId, TaskDTO task, TaskDTO previous) {
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static TaskChangedEvent created(TaskDTO task) {
+        return new TaskChangedEvent(Type.CREATED, task.getId(), task, null);
+    }
+
+    public static TaskChangedEvent updated(TaskDTO previous, TaskDTO task) {
+        return new TaskChangedEvent(Type.UPDATED, task.getId(), task, previous);
+    }
+
+    public static TaskChangedEvent deleted(Long taskId) {
+        return new TaskChangedEvent(Type.DELETED, taskId, null, null);
+    }
+}
@@ -40,6 +40,14 @@ public abstract class TaskMapper {
     @Mapping(target = "labels", source = "taskLabelIds", qualifiedByName = "forLabels")
     public abstract Task map(TaskCreateDTO data);
 
+    @Named("mapWithoutReferences")
+    @Mapping(target = "description", source = "content")
+    @Mapping(target = "name", source = "title")
+    @Mapping(target = "assignee", ignore = true)
+    @Mapping(target = "taskStatus", ignore = true)
+    @Mapping(target = "labels", ignore = true)
+    public abstract Task mapWithoutReferences(TaskCreateDTO data);
+
     @Mapping(source = "assignee.id", target = "assigneeId")
     @Mapping(source = "name", target = "title")
     @Mapping(source = "description", target = "content")
@@ -72,7 +80,7 @@ public abstract class TaskMapper {
 
     @Named("forLabels")
     public List<Label> forLabels(List<Long> labelsIds) {
-        return labelRepository.findAllById(labelsIds);
+        return labelRepository.findAllByIdCached(labelsIds);
     }
 
     @Named("mapAssignee")
@@ -7,6 +7,10 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -18,14 +22,18 @@ import java.time.LocalDate;
 @Table(name = "labels")
 @EntityListeners(AuditingEntityListener.class)
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "labels")
+@NaturalIdCache(region = "labelsByName")
 public class Label implements BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "labels_seq")
+    @SequenceGenerator(name = "labels_seq", sequenceName = "labels_seq", allocationSize = 50)
     @ToString.Include
     @EqualsAndHashCode.Include
     private Long id;
 
     @NotBlank(message = "Name cannot be blank")
+    @NaturalId(mutable = true)
     @Column(unique = true)
     @Size(min = 3, max = 1000, message = "Name must be between 3 and 1000 characters long")
     private String name;
@@ -8,6 +8,11 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -21,9 +26,13 @@ import java.util.List;
 @Table(name = "task_statuses")
 @EntityListeners(AuditingEntityListener.class)
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@BatchSize(size = 100)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "taskStatuses")
+@NaturalIdCache(region = "taskStatusesBySlug")
 public class TaskStatus implements BaseEntity{
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_statuses_seq")
+    @SequenceGenerator(name = "task_statuses_seq", sequenceName = "task_statuses_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -40,6 +49,7 @@ public class TaskStatus implements BaseEntity{
     private String name;
 
     @NotBlank
+    @NaturalId(mutable = true)
     @Column(unique = true)
     @Size(min = 1, message = "Slug must be at least 1 characters")
     @ToString.Include
@@ -5,7 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
 
-public interface LabelRepository extends JpaRepository<Label, Long> {
+public interface LabelRepository extends JpaRepository<Label, Long>, LabelRepositoryCustom {
     Optional<Label> findByName(String name);
     boolean existsByName(String name);
 }
@@ -0,0 +1,14 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.Label;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface LabelRepositoryCustom {
+    /**
+     * Loads labels by id from the second-level cache, querying only for the ones it misses;
+     * unknown ids are skipped. Unlike {@code findAllById}, which always runs an {@code in} query.
+     */
+    List<Label> findAllByIdCached(Collection<Long> ids);
+}
@@ -0,0 +1,31 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.Label;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+@Transactional(readOnly = true)
+public class LabelRepositoryCustomImpl implements LabelRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Label> findAllByIdCached(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Label.class)
+                // multiLoad returns one entry per requested id, duplicates included
+                .multiLoad(ids.stream().distinct().toList())
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
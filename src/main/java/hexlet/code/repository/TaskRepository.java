@@ -1,11 +1,73 @@
 package hexlet.code.repository;
 
 import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface TaskRepository extends JpaRepository<Task, Long >, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long >, JpaSpecificationExecutor<Task>,
+        TaskRepositoryCustom {
     Optional<Task> findByName(String name);
+
+    @Override
+    @EntityGraph(attributePaths = {"taskStatus", "assignee", "labels"})
+    Optional<Task> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = {"taskStatus", "assignee"})
+    List<Task> findAll(Specification<Task> spec);
+
+    boolean existsByTaskStatusId(Long taskStatusId);
+
+    long countByTaskStatusId(Long taskStatusId);
+
+    boolean existsByLabelsId(Long labelId);
+
+    @Query("select t.id from Task t where t.assignee.id = :assigneeId")
+    List<Long> findIdsByAssigneeId(@Param("assigneeId") Long assigneeId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Task t where t.assignee.id = :assigneeId")
+    int deleteAllByAssigneeId(@Param("assigneeId") Long assigneeId);
+
+    @Query("select t.index from Task t where t.id = :id and t.taskStatus.id = :statusId")
+    Optional<Integer> findIndexInColumn(@Param("id") Long id, @Param("statusId") Long statusId);
+
+    @Query("select max(t.index) from Task t where t.taskStatus.id = :statusId and t.id <> :excludedId")
+    Optional<Integer> findMaxIndexInColumn(@Param("statusId") Long statusId, @Param("excludedId") Long excludedId);
+
+    // Ties count as no room, so a move next to tasks with equal indexes rebalances the column first
+    @Query("select max(t.index) from Task t where t.taskStatus.id = :statusId and t.index <= :index"
+            + " and t.id not in (:neighbourId, :excludedId)")
+    Optional<Integer> findMaxIndexUpTo(@Param("statusId") Long statusId, @Param("index") int index,
+                                       @Param("neighbourId") Long neighbourId, @Param("excludedId") Long excludedId);
+
+    @Query("select min(t.index) from Task t where t.taskStatus.id = :statusId and t.index >= :index"
+            + " and t.id not in (:neighbourId, :excludedId)")
+    Optional<Integer> findMinIndexFrom(@Param("statusId") Long statusId, @Param("index") int index,
+                                       @Param("neighbourId") Long neighbourId, @Param("excludedId") Long excludedId);
+
+    @Modifying
+    @Query("update Task t set t.taskStatus = :status, t.index = :index where t.id = :id")
+    int move(@Param("id") Long id, @Param("status") TaskStatus status, @Param("index") int index);
+
+    @Query("select t.id as id, t.name as name, t.description as description from Task t")
+    Stream<SearchText> streamSearchText();
+
+    interface SearchText {
+        Long getId();
+
+        String getName();
+
+        String getDescription();
+    }
 }
@@ -0,0 +1,37 @@
+package hexlet.code.repository;
+
+import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.TaskSummaryDTO;
+import hexlet.code.model.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface TaskRepositoryCustom {
+    /**
+     * Reads tasks matching the specification straight into DTOs, ordered by index and id.
+     *
+     * @param afterIndex index of the last task of the previous page, or null for the first page
+     * @param afterId id of the last task of the previous page, or null for the first page
+     * @param limit maximum number of rows, or null for all of them
+     */
+    List<TaskDTO> findAllAsDTO(Specification<Task> specification, Integer afterIndex, Long afterId, Integer limit);
+
+    /**
+     * Scrolls through all tasks matching the specification, ordered by index and id, and hands them
+     * to the consumer in chunks, so only one chunk is held in memory. Must run inside a transaction.
+     */
+    void streamAllAsDTO(Specification<Task> specification, Consumer<List<TaskDTO>> chunkConsumer);
+
+    /**
+     * Counts the tasks matching the specification, in total and grouped by status slug, assignee and label,
+     * with one aggregate query per grouping.
+     */
+    TaskSummaryDTO summarize(Specification<Task> specification);
+
+    /**
+     * Renumbers a column to multiples of the gap in one statement, keeping its (index, id) order.
+     */
+    int rebalanceColumn(Long statusId, int gap);
+}
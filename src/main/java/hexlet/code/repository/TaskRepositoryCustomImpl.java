@@ -0,0 +1,169 @@
+package hexlet.code.repository;
+
+import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.TaskSummaryDTO;
+import hexlet.code.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+    private static final int LABEL_CHUNK_SIZE = 500;
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final String REBALANCE_COLUMN = "update tasks t set index = r.new_index"
+            + " from (select id, row_number() over (order by index, id) * :gap as new_index"
+            + " from tasks where task_status_id = :statusId) r"
+            + " where t.id = r.id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskDTO> findAllAsDTO(Specification<Task> specification, Integer afterIndex, Long afterId,
+                                      Integer limit) {
+        var typedQuery = createQuery(specification, afterIndex, afterId);
+        if (limit != null) {
+            typedQuery.setMaxResults(limit);
+        }
+        var tasks = typedQuery.getResultList();
+        fillLabelIds(tasks);
+        return tasks;
+    }
+
+    @Override
+    public void streamAllAsDTO(Specification<Task> specification, Consumer<List<TaskDTO>> chunkConsumer) {
+        // Constructor projections are not managed, so the persistence context stays empty while scrolling
+        var typedQuery = createQuery(specification, null, null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+
+        List<TaskDTO> chunk = new ArrayList<>(LABEL_CHUNK_SIZE);
+        try (var tasks = typedQuery.getResultStream()) {
+            var iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == LABEL_CHUNK_SIZE || !iterator.hasNext()) {
+                    fillLabelIds(chunk);
+                    chunkConsumer.accept(chunk);
+                    chunk = new ArrayList<>(LABEL_CHUNK_SIZE);
+                }
+            }
+        }
+    }
+
+    @Override
+    public int rebalanceColumn(Long statusId, int gap) {
+        entityManager.flush();
+        // Declaring the table keeps Hibernate from invalidating every second-level cache region
+        return entityManager.createNativeQuery(REBALANCE_COLUMN)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Task.class)
+                .setParameter("statusId", statusId)
+                .setParameter("gap", gap)
+                .executeUpdate();
+    }
+
+    @Override
+    public TaskSummaryDTO summarize(Specification<Task> specification) {
+        var cb = entityManager.getCriteriaBuilder();
+        var totalQuery = cb.createQuery(Long.class);
+        Root<Task> root = totalQuery.from(Task.class);
+        totalQuery.select(cb.countDistinct(root));
+        var filter = specification.toPredicate(root, totalQuery, cb);
+        if (filter != null) {
+            totalQuery.where(filter);
+        }
+        long total = entityManager.createQuery(totalQuery).getSingleResult();
+
+        Map<String, Long> byStatus = countBy(specification, task -> task.get("taskStatus").get("slug"));
+        Map<Long, Long> byAssignee = countBy(specification, task -> task.get("assignee").get("id"));
+        Map<Long, Long> byLabel = countBy(specification, task -> task.join("labels").get("id"));
+        var unassigned = byAssignee.remove(null);
+
+        return new TaskSummaryDTO(total, byStatus, byAssignee, unassigned == null ? 0 : unassigned, byLabel);
+    }
+
+    // countDistinct, because the label filter and the label grouping join task_labels, which may repeat a task
+    private <K> Map<K, Long> countBy(Specification<Task> specification, Function<Root<Task>, Expression<K>> key) {
+        var cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        Expression<K> group = key.apply(root);
+        query.multiselect(group, cb.countDistinct(root));
+        var filter = specification.toPredicate(root, query, cb);
+        if (filter != null) {
+            query.where(filter);
+        }
+        query.groupBy(group);
+        query.orderBy(cb.asc(group));
+
+        Map<K, Long> counts = new LinkedHashMap<>();
+        entityManager.createQuery(query).getResultList()
+                .forEach(row -> counts.put(row.get(0, group.getJavaType()), row.get(1, Long.class)));
+        return counts;
+    }
+
+    private TypedQuery<TaskDTO> createQuery(Specification<Task> specification, Integer afterIndex, Long afterId) {
+        var cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskDTO> query = cb.createQuery(TaskDTO.class);
+        Root<Task> root = query.from(Task.class);
+        Path<Integer> index = root.get("index");
+        Path<Long> id = root.get("id");
+
+        query.select(cb.construct(TaskDTO.class,
+                id,
+                root.get("name"),
+                index,
+                root.get("description"),
+                root.get("taskStatus").get("slug"),
+                root.get("assignee").get("id"),
+                root.get("createdAt")));
+
+        List<Predicate> predicates = new ArrayList<>();
+        var filter = specification.toPredicate(root, query, cb);
+        if (filter != null) {
+            predicates.add(filter);
+        }
+        if (afterId != null) {
+            predicates.add(cb.or(
+                    cb.greaterThan(index, afterIndex),
+                    cb.and(cb.equal(index, afterIndex), cb.greaterThan(id, afterId))));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        query.orderBy(cb.asc(index), cb.asc(id));
+
+        return entityManager.createQuery(query);
+    }
+
+    private void fillLabelIds(List<TaskDTO> tasks) {
+        Map<Long, TaskDTO> tasksById = new HashMap<>();
+        tasks.forEach(task -> tasksById.put(task.getId(), task));
+        var ids = new ArrayList<>(tasksById.keySet());
+
+        for (int from = 0; from < ids.size(); from += LABEL_CHUNK_SIZE) {
+            var chunk = ids.subList(from, Math.min(from + LABEL_CHUNK_SIZE, ids.size()));
+            entityManager.createQuery(
+                            "select t.id, l.id from Task t join t.labels l where t.id in :ids", Object[].class)
+                    .setParameter("ids", chunk)
+                    .getResultList()
+                    .forEach(row -> tasksById.get((Long) row[0]).getTaskLabelIds().add((Long) row[1]));
+        }
+    }
+}
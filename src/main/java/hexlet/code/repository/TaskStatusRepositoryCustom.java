@@ -0,0 +1,19 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.TaskStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface TaskStatusRepositoryCustom {
+    /**
+     * Resolves a status by its slug through the natural-id cache, so repeated lookups do not reach the database.
+     */
+    Optional<TaskStatus> findBySlug(String slug);
+
+    /**
+     * Resolves statuses by slug through the natural-id cache; slugs without a status are skipped.
+     */
+    List<TaskStatus> findAllBySlugIn(Collection<String> slugs);
+}
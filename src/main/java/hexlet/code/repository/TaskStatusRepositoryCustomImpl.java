@@ -0,0 +1,35 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+public class TaskStatusRepositoryCustomImpl implements TaskStatusRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<TaskStatus> findBySlug(String slug) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(TaskStatus.class)
+                .loadOptional(slug);
+    }
+
+    @Override
+    public List<TaskStatus> findAllBySlugIn(Collection<String> slugs) {
+        return entityManager.unwrap(Session.class)
+                .byMultipleNaturalId(TaskStatus.class)
+                .multiLoad(List.copyOf(slugs))
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -1,11 +1,38 @@
 package hexlet.code.repository;
 
+import hexlet.code.config.CacheConfig;
 import hexlet.code.model.User;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Cacheable(cacheNames = CacheConfig.USER_IDS_BY_EMAIL, unless = "#result == null")
+    @Transactional(readOnly = true)
+    @Query("select u.id from User u where u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USER_IDS_BY_EMAIL, allEntries = true)
+    <S extends User> S save(S entity);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USER_IDS_BY_EMAIL, allEntries = true)
+    void delete(User entity);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USER_IDS_BY_EMAIL, allEntries = true)
+    void deleteById(Long id);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USER_IDS_BY_EMAIL, allEntries = true)
+    void deleteAll();
 }
@@ -0,0 +1,9 @@
+package hexlet.code.service;
+
+import hexlet.code.dto.AuthRequest;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AuthenticationService {
+    CompletableFuture<String> login(AuthRequest authRequest);
+}
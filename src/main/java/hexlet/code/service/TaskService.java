@@ -2,19 +2,35 @@ package hexlet.code.service;
 
 import hexlet.code.dto.task.TaskCreateDTO;
 import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.TaskMoveDTO;
+import hexlet.code.dto.task.TaskPageDTO;
 import hexlet.code.dto.task.TaskParamsDTO;
+import hexlet.code.dto.task.TaskSummaryDTO;
 import hexlet.code.dto.task.TaskUpdateDTO;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TaskService {
     List<TaskDTO> findAll(TaskParamsDTO taskParamsDTO);
 
+    TaskPageDTO findPage(TaskParamsDTO taskParamsDTO);
+
+    long count(TaskParamsDTO taskParamsDTO);
+
+    void export(TaskParamsDTO taskParamsDTO, Consumer<TaskDTO> consumer);
+
+    TaskSummaryDTO summary(TaskParamsDTO taskParamsDTO);
+
     TaskDTO findById(Long id);
 
     TaskDTO create(TaskCreateDTO taskCreateDTO);
 
+    List<TaskDTO> createAll(List<TaskCreateDTO> taskCreateDTOs);
+
     TaskDTO update(Long id, TaskUpdateDTO taskUpdateDTO);
 
+    TaskDTO move(Long id, TaskMoveDTO taskMoveDTO);
+
     void delete(Long id);
 }
@@ -0,0 +1,60 @@
+package hexlet.code.service.impl;
+
+import hexlet.code.dto.AuthRequest;
+import hexlet.code.model.User;
+import hexlet.code.service.AuthenticationService;
+import hexlet.code.utils.JWTUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+@Service
+@RequiredArgsConstructor
+public class AuthenticationServiceImpl implements AuthenticationService {
+    private final JWTUtils jwtUtils;
+    private final AuthenticationManager authenticationManager;
+    private final MeterRegistry meterRegistry;
+    @Qualifier("passwordHashingExecutor")
+    private final AsyncTaskExecutor passwordHashingExecutor;
+
+    /**
+     * Verifies the password on the password hashing executor, so a burst of logins queues there
+     * instead of holding request threads. Throws TaskRejectedException when the queue is full.
+     */
+    @Override
+    public CompletableFuture<String> login(AuthRequest authRequest) {
+        var authentication = new UsernamePasswordAuthenticationToken(
+                authRequest.getUsername(),
+                authRequest.getPassword()
+        );
+        var sample = Timer.start(meterRegistry);
+
+        try {
+            return CompletableFuture
+                    .supplyAsync(() -> authenticationManager.authenticate(authentication), passwordHashingExecutor)
+                    .whenComplete((result, ex) -> sample.stop(loginTimer(ex == null ? "success" : "failure")))
+                    .thenApply(result -> {
+                        var user = (User) result.getPrincipal();
+                        return jwtUtils.generateToken(user.getUsername(), user.getId());
+                    });
+        } catch (TaskRejectedException e) {
+            sample.stop(loginTimer("rejected"));
+            throw e;
+        }
+    }
+
+    private Timer loginTimer(String outcome) {
+        return Timer.builder("auth.login")
+                .description("Time from login request to password verification result, including queueing")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -1,19 +1,24 @@
 package hexlet.code.service.impl;
 
+import hexlet.code.component.CollectionVersions;
 import hexlet.code.model.User;
 import hexlet.code.repository.UserRepository;
+import hexlet.code.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.UserDetailsManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsManager {
     private final UserRepository userRepository;
+    private final UserService userService;
     private final PasswordEncoder passwordEncoder;
+    private final CollectionVersions collectionVersions;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -26,6 +31,7 @@ public class CustomUserDetailsService implements UserDetailsManager {
         User user = (User) userData;
         user.setPasswordDigest(passwordEncoder.encode(user.getPassword()));
         userRepository.save(user);
+        collectionVersions.bump(CollectionVersions.Type.USERS);
     }
 
     @Override
@@ -39,13 +45,15 @@ public class CustomUserDetailsService implements UserDetailsManager {
         existingUser.setEmail(updatedUser.getEmail());
 
         userRepository.save(existingUser);
+        collectionVersions.bump(CollectionVersions.Type.USERS);
     }
 
     @Override
+    @Transactional
     public void deleteUser(String username) {
         User user = userRepository.findByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-        userRepository.delete(user);
+        userService.deleteById(user.getId());
     }
 
     @Override
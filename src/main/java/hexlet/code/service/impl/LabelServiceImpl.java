@@ -1,13 +1,17 @@
 package hexlet.code.service.impl;
 
+import hexlet.code.component.CollectionVersions;
 import hexlet.code.dto.label.LabelCreateDTO;
 import hexlet.code.dto.label.LabelDTO;
 import hexlet.code.dto.label.LabelUpdateDTO;
+import hexlet.code.exception.ReferencedEntityException;
 import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.mapper.LabelMapper;
 import hexlet.code.model.Label;
 import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
 import hexlet.code.service.LabelService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,11 +19,14 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 @Service
+@Timed(value = "app.service", histogram = true)
 @RequiredArgsConstructor
 @Transactional
 public class LabelServiceImpl implements LabelService {
     private final LabelRepository labelRepository;
+    private final TaskRepository taskRepository;
     private final LabelMapper labelMapper;
+    private final CollectionVersions collectionVersions;
 
     @Transactional(readOnly = true)
     public List<LabelDTO> findAll() {
@@ -39,6 +46,7 @@ public class LabelServiceImpl implements LabelService {
     public LabelDTO create(LabelCreateDTO labelCreateDTO) {
         Label label = labelMapper.map(labelCreateDTO);
         Label saved = labelRepository.save(label);
+        collectionVersions.bump(CollectionVersions.Type.LABELS);
         return labelMapper.map(saved);
     }
 
@@ -47,6 +55,7 @@ public class LabelServiceImpl implements LabelService {
                 .orElseThrow(() -> new ResourceNotFoundException("Label not found with id: " + id));
         labelMapper.update(labelUpdateDTO, label);
         Label updated = labelRepository.save(label);
+        collectionVersions.bump(CollectionVersions.Type.LABELS);
         return labelMapper.map(updated);
     }
 
@@ -54,6 +63,10 @@ public class LabelServiceImpl implements LabelService {
         if (!labelRepository.existsById(id)) {
             throw new ResourceNotFoundException("Label not found with id: " + id);
         }
+        if (taskRepository.existsByLabelsId(id)) {
+            throw new ReferencedEntityException("Cannot delete label because it is referenced by one or more tasks");
+        }
         labelRepository.deleteById(id);
+        collectionVersions.bump(CollectionVersions.Type.LABELS);
     }
 }
\ No newline at end of file
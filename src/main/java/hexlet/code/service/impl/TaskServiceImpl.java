@@ -1,29 +1,61 @@
 package hexlet.code.service.impl;
 
+import hexlet.code.component.CollectionVersions;
+import hexlet.code.config.CacheConfig;
 import hexlet.code.dto.task.TaskCreateDTO;
 import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.TaskMoveDTO;
+import hexlet.code.dto.task.TaskPageDTO;
 import hexlet.code.dto.task.TaskParamsDTO;
+import hexlet.code.dto.task.TaskSummaryDTO;
 import hexlet.code.dto.task.TaskUpdateDTO;
+import hexlet.code.event.TaskBatchChangedEvent;
+import hexlet.code.event.TaskChangedEvent;
 import hexlet.code.exception.ResourceNotFoundException;
+import hexlet.code.exception.UnprocessableContentException;
 import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.Label;
 import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
 import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
 import hexlet.code.service.TaskService;
 import hexlet.code.specification.TaskSpecification;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "app.service", histogram = true)
 @RequiredArgsConstructor
 @Transactional
 public class TaskServiceImpl implements TaskService {
+    static final int INDEX_GAP = 1024;
+
     private final TaskRepository taskRepository;
+    private final TaskStatusRepository taskStatusRepository;
+    private final LabelRepository labelRepository;
+    private final UserRepository userRepository;
     private final TaskMapper taskMapper;
+    private final CollectionVersions collectionVersions;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     private TaskSpecification taskSpecification;
@@ -31,10 +63,45 @@ public class TaskServiceImpl implements TaskService {
     @Transactional(readOnly = true)
     public List<TaskDTO> findAll(TaskParamsDTO params) {
         Specification<Task> specification = taskSpecification.build(params);
-        return taskRepository.findAll(specification)
-                .stream()
-                .map(taskMapper::map)
-                .toList();
+        return taskRepository.findAllAsDTO(specification, null, null, null);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPageDTO findPage(TaskParamsDTO params) {
+        checkCursor(params);
+        Specification<Task> specification = taskSpecification.build(params);
+        int pageSize = params.getPageSize();
+        var tasks = taskRepository.findAllAsDTO(specification, params.getAfterIndex(), params.getAfterId(),
+                pageSize + 1);
+
+        if (tasks.size() <= pageSize) {
+            return new TaskPageDTO(tasks, null, null);
+        }
+        var page = tasks.subList(0, pageSize);
+        var last = page.get(pageSize - 1);
+        return new TaskPageDTO(page, last.getIndex(), last.getId());
+    }
+
+    private void checkCursor(TaskParamsDTO params) {
+        if ((params.getAfterId() == null) != (params.getAfterIndex() == null)) {
+            throw new UnprocessableContentException("Both afterIndex and afterId are required for the cursor");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.TASK_COUNTS, key = "'all'", condition = "!#params.hasFilters()")
+    public long count(TaskParamsDTO params) {
+        return taskRepository.count(taskSpecification.build(params));
+    }
+
+    @Transactional(readOnly = true)
+    public void export(TaskParamsDTO params, Consumer<TaskDTO> consumer) {
+        taskRepository.streamAllAsDTO(taskSpecification.build(params), chunk -> chunk.forEach(consumer));
+    }
+
+    @Transactional(readOnly = true)
+    public TaskSummaryDTO summary(TaskParamsDTO params) {
+        return taskRepository.summarize(taskSpecification.build(params));
     }
 
     @Transactional(readOnly = true)
@@ -44,24 +111,183 @@ public class TaskServiceImpl implements TaskService {
         return taskMapper.map(task);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.TASK_COUNTS, allEntries = true)
     public TaskDTO create(TaskCreateDTO taskCreateDTO) {
         Task task = taskMapper.map(taskCreateDTO);
         Task saved = taskRepository.save(task);
-        return taskMapper.map(saved);
+        collectionVersions.bump(CollectionVersions.Type.TASKS);
+        var created = taskMapper.map(saved);
+        eventPublisher.publishEvent(TaskChangedEvent.created(created));
+        return created;
+    }
+
+    /**
+     * Creates all tasks in one transaction, resolving statuses, labels and assignees with at most
+     * one query each, so the inserts can go to the database as JDBC batches.
+     */
+    @CacheEvict(cacheNames = CacheConfig.TASK_COUNTS, allEntries = true)
+    public List<TaskDTO> createAll(List<TaskCreateDTO> taskCreateDTOs) {
+        var slugs = taskCreateDTOs.stream()
+                .map(TaskCreateDTO::getStatus)
+                .collect(Collectors.toSet());
+        var statuses = taskStatusRepository.findAllBySlugIn(slugs).stream()
+                .collect(Collectors.toMap(TaskStatus::getSlug, Function.identity()));
+        slugs.stream()
+                .filter(slug -> !statuses.containsKey(slug))
+                .findFirst()
+                .ifPresent(slug -> {
+                    throw new ResourceNotFoundException("TaskStatus not found: " + slug);
+                });
+
+        var labelIds = taskCreateDTOs.stream()
+                .flatMap(dto -> dto.getTaskLabelIds().stream())
+                .collect(Collectors.toSet());
+        var labels = labelRepository.findAllByIdCached(labelIds).stream()
+                .collect(Collectors.toMap(Label::getId, Function.identity()));
+        checkAllFound("Labels", labelIds, labels.keySet());
+
+        var assigneeIds = taskCreateDTOs.stream()
+                .map(TaskCreateDTO::getAssigneeId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        var assignees = userRepository.findAllById(assigneeIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        checkAllFound("Users", assigneeIds, assignees.keySet());
+
+        var tasks = taskCreateDTOs.stream()
+                .map(dto -> {
+                    Task task = taskMapper.mapWithoutReferences(dto);
+                    task.setTaskStatus(statuses.get(dto.getStatus()));
+                    task.setAssignee(dto.getAssigneeId() == null ? null : assignees.get(dto.getAssigneeId()));
+                    task.setLabels(dto.getTaskLabelIds().stream()
+                            .distinct()
+                            .map(labels::get)
+                            .collect(Collectors.toCollection(ArrayList::new)));
+                    return task;
+                })
+                .toList();
+
+        var saved = taskRepository.saveAll(tasks);
+        collectionVersions.bump(CollectionVersions.Type.TASKS);
+        var created = saved.stream()
+                .map(taskMapper::map)
+                .toList();
+        eventPublisher.publishEvent(TaskBatchChangedEvent.created(created));
+        return created;
+    }
+
+    private static void checkAllFound(String entities, Set<Long> requestedIds, Set<Long> foundIds) {
+        var missingIds = requestedIds.stream()
+                .filter(id -> !foundIds.contains(id))
+                .sorted()
+                .toList();
+        if (!missingIds.isEmpty()) {
+            throw new ResourceNotFoundException(entities + " not found with ids: " + missingIds);
+        }
     }
 
     public TaskDTO update(Long id, TaskUpdateDTO taskUpdateDTO) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        var previous = taskMapper.map(task);
         taskMapper.update(taskUpdateDTO, task);
         Task updated = taskRepository.save(task);
-        return taskMapper.map(updated);
+        collectionVersions.bump(CollectionVersions.Type.TASKS);
+        var updatedDTO = taskMapper.map(updated);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(previous, updatedDTO));
+        return updatedDTO;
+    }
+
+    /**
+     * Places the task between its new neighbours with a single update, using the midpoint of their
+     * indexes. Only when there is no free index left is the column renumbered to multiples of
+     * {@link #rebalanceGap(long)}, in one statement, and the place looked up again.
+     */
+    public TaskDTO move(Long id, TaskMoveDTO taskMoveDTO) {
+        var previous = findDTO(id);
+        TaskStatus status = taskStatusRepository.findBySlug(taskMoveDTO.getStatus())
+                .orElseThrow(() -> new ResourceNotFoundException("TaskStatus not found: " + taskMoveDTO.getStatus()));
+
+        var index = findFreeIndex(id, status, taskMoveDTO);
+        if (index == null) {
+            var gap = rebalanceGap(taskRepository.countByTaskStatusId(status.getId()));
+            taskRepository.rebalanceColumn(status.getId(), gap);
+            index = findFreeIndex(id, status, taskMoveDTO);
+        }
+        if (index == null) {
+            throw new IllegalStateException("No free index in status " + status.getSlug() + " after rebalancing");
+        }
+        taskRepository.move(id, status, index);
+
+        collectionVersions.bump(CollectionVersions.Type.TASKS);
+        var moved = findDTO(id);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(previous, moved));
+        return moved;
+    }
+
+    /**
+     * {@link #INDEX_GAP}, or less for columns so big that its multiples would overflow the int index.
+     * The last task then still leaves room to append another one after it.
+     */
+    static int rebalanceGap(long columnSize) {
+        return (int) Math.min(INDEX_GAP, (Integer.MAX_VALUE - INDEX_GAP) / Math.max(columnSize, 1));
+    }
+
+    private TaskDTO findDTO(Long id) {
+        return taskRepository.findAllAsDTO((root, query, cb) -> cb.equal(root.get("id"), id), null, null, 1)
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+    }
+
+    private Integer findFreeIndex(Long id, TaskStatus status, TaskMoveDTO taskMoveDTO) {
+        var afterId = taskMoveDTO.getAfterId();
+        var beforeId = taskMoveDTO.getBeforeId();
+        Integer lower;
+        Integer upper;
+        if (afterId != null) {
+            lower = neighbourIndex(id, afterId, status);
+            upper = beforeId != null
+                    ? neighbourIndex(id, beforeId, status)
+                    : taskRepository.findMinIndexFrom(status.getId(), lower, afterId, id).orElse(null);
+            // Checked before anything is renumbered, so a rejected move leaves the column alone
+            if (beforeId != null && (lower > upper || lower.equals(upper) && afterId > beforeId)) {
+                throw new UnprocessableContentException("Task " + afterId + " must come before task " + beforeId);
+            }
+        } else if (beforeId != null) {
+            upper = neighbourIndex(id, beforeId, status);
+            lower = taskRepository.findMaxIndexUpTo(status.getId(), upper, beforeId, id).orElse(null);
+        } else {
+            lower = taskRepository.findMaxIndexInColumn(status.getId(), id).orElse(null);
+            upper = null;
+        }
+
+        if (lower != null && upper != null) {
+            return (long) upper - lower >= 2 ? (int) (((long) lower + upper) / 2) : null;
+        } else if (lower != null) {
+            return lower <= Integer.MAX_VALUE - INDEX_GAP ? lower + INDEX_GAP : null;
+        } else if (upper != null) {
+            return upper >= Integer.MIN_VALUE + INDEX_GAP ? upper - INDEX_GAP : null;
+        }
+        return INDEX_GAP;
+    }
+
+    private int neighbourIndex(Long id, Long neighbourId, TaskStatus status) {
+        if (neighbourId.equals(id)) {
+            throw new UnprocessableContentException("A task cannot be its own neighbour");
+        }
+        return taskRepository.findIndexInColumn(neighbourId, status.getId())
+                .orElseThrow(() -> new UnprocessableContentException(
+                        "Task " + neighbourId + " is not in status " + status.getSlug()));
     }
 
+    @CacheEvict(cacheNames = CacheConfig.TASK_COUNTS, allEntries = true)
     public void delete(Long id) {
         if (!taskRepository.existsById(id)) {
             throw new ResourceNotFoundException("Task not found with id: " + id);
         }
         taskRepository.deleteById(id);
+        collectionVersions.bump(CollectionVersions.Type.TASKS);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(id));
     }
 }
@@ -1,5 +1,6 @@
 package hexlet.code.service.impl;
 
+import hexlet.code.component.CollectionVersions;
 import hexlet.code.dto.taskStatus.TaskStatusCreateDTO;
 import hexlet.code.dto.taskStatus.TaskStatusDTO;
 import hexlet.code.dto.taskStatus.TaskStatusUpdateDTO;
@@ -7,21 +8,25 @@ import hexlet.code.exception.ReferencedEntityException;
 import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.mapper.TaskStatusMapper;
 import hexlet.code.model.TaskStatus;
+import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.service.TaskStatusService;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
 @Service
+@Timed(value = "app.service", histogram = true)
 @RequiredArgsConstructor
 @Transactional
 public class TaskStatusServiceImpl implements TaskStatusService {
     private final TaskStatusRepository taskStatusRepository;
+    private final TaskRepository taskRepository;
     private final TaskStatusMapper taskStatusMapper;
+    private final CollectionVersions collectionVersions;
 
     @Transactional(readOnly = true)
     public List<TaskStatusDTO> findAll() {
@@ -41,6 +46,7 @@ public class TaskStatusServiceImpl implements TaskStatusService {
     public TaskStatusDTO create(TaskStatusCreateDTO taskStatusCreateDTO) {
         TaskStatus taskStatus = taskStatusMapper.map(taskStatusCreateDTO);
         TaskStatus saved = taskStatusRepository.save(taskStatus);
+        collectionVersions.bump(CollectionVersions.Type.TASK_STATUSES);
         return taskStatusMapper.map(saved);
     }
 
@@ -49,20 +55,23 @@ public class TaskStatusServiceImpl implements TaskStatusService {
                 .orElseThrow(() -> new ResourceNotFoundException("Task status not found with id: " + id));
         taskStatusMapper.update(taskStatusUpdateDTO, taskStatus);
         TaskStatus updated = taskStatusRepository.save(taskStatus);
+        collectionVersions.bump(CollectionVersions.Type.TASK_STATUSES);
         return taskStatusMapper.map(updated);
     }
 
     public void delete(Long id) {
-        TaskStatus taskStatus = taskStatusRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task status not found with id: " + id));
+        if (!taskStatusRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Task status not found with id: " + id);
+        }
 
         // Проверяем, есть ли связанные задачи
-        if (!taskStatus.getTasks().isEmpty()) {
+        if (taskRepository.existsByTaskStatusId(id)) {
             throw new ReferencedEntityException(
                     "Cannot delete task status because it is referenced by one or more tasks"
             );
         }
 
-        taskStatusRepository.delete(taskStatus);
+        taskStatusRepository.deleteById(id);
+        collectionVersions.bump(CollectionVersions.Type.TASK_STATUSES);
     }
 }
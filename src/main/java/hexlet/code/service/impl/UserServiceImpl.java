@@ -1,26 +1,37 @@
 package hexlet.code.service.impl;
 
+import hexlet.code.component.CollectionVersions;
+import hexlet.code.config.CacheConfig;
 import hexlet.code.dto.user.UserCreateDTO;
 import hexlet.code.dto.user.UserDTO;
 import hexlet.code.dto.user.UserRegistrationDTO;
 import hexlet.code.dto.user.UserUpdateDTO;
+import hexlet.code.event.TaskBatchChangedEvent;
 import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.mapper.UserMapper;
 import hexlet.code.model.User;
+import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.UserRepository;
 import hexlet.code.service.UserService;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
+@Timed(value = "app.service", histogram = true)
 @Transactional
 @AllArgsConstructor
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
     private final UserMapper userMapper;
+    private final CollectionVersions collectionVersions;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -40,6 +51,7 @@ public class UserServiceImpl implements UserService {
     public UserDTO create(UserCreateDTO userCreateDTO) {
         User user = userMapper.map(userCreateDTO);
         User savedUser = userRepository.save(user);
+        collectionVersions.bump(CollectionVersions.Type.USERS);
         return userMapper.map(savedUser);
     }
 
@@ -49,15 +61,25 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
         userMapper.update(userUpdateDTO, user);
         User updatedUser = userRepository.save(user);
+        collectionVersions.bump(CollectionVersions.Type.USERS);
         return userMapper.map(updatedUser);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.TASK_COUNTS, allEntries = true)
     public void deleteById(Long id) {
         if (!userRepository.existsById(id)) {
             throw new ResourceNotFoundException("User not found with id: " + id);
         }
+        // The bulk delete skips entity callbacks, so subscribers and the search index learn about it from the event
+        var taskIds = taskRepository.findIdsByAssigneeId(id);
+        if (!taskIds.isEmpty()) {
+            taskRepository.deleteAllByAssigneeId(id);
+            collectionVersions.bump(CollectionVersions.Type.TASKS);
+            eventPublisher.publishEvent(TaskBatchChangedEvent.deleted(taskIds));
+        }
         userRepository.deleteById(id);
+        collectionVersions.bump(CollectionVersions.Type.USERS);
     }
 
     @Override
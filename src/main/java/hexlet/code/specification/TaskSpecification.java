@@ -1,17 +1,32 @@
 package hexlet.code.specification;
 
+import hexlet.code.component.TaskSearchIndex;
 import hexlet.code.dto.task.TaskParamsDTO;
 import hexlet.code.model.Task;
+import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
 @Component
+@RequiredArgsConstructor
 public class TaskSpecification {
+    private static final char ESCAPE = '\\';
+
+    private final TaskSearchIndex taskSearchIndex;
+
     public Specification<Task> build(TaskParamsDTO params) {
         return withAssigneeId(params.getAssigneeId())
                 .and(withLabelId(params.getLabelId()))
                 .and(withTitleCont(params.getTitleCont()))
+                .and(withTextCont(params.getTextCont()))
                 .and(withStatus(params.getStatus()));
     }
 
@@ -21,15 +36,45 @@ public class TaskSpecification {
     }
 
     private Specification<Task> withLabelId(Long labelId) {
-        return ((root, query, cb) ->
-                labelId == null ? cb.conjunction()
-                        : cb.equal(root.join("labels", JoinType.INNER).get("id"), labelId));
+        return (root, query, cb) -> {
+            if (labelId == null) {
+                return cb.conjunction();
+            }
+            // task_labels has no unique key, so the join may repeat a task
+            query.distinct(true);
+            return cb.equal(root.join("labels", JoinType.INNER).get("id"), labelId);
+        };
     }
 
     private Specification<Task> withTitleCont(String titleCont) {
-        return (root, query, cb) ->
-                titleCont == null ? cb.conjunction() :
-                        cb.like(cb.lower(root.get("name")), "%" + titleCont.toLowerCase() + "%");
+        return (root, query, cb) -> {
+            if (titleCont == null) {
+                return cb.conjunction();
+            }
+            var like = cb.like(cb.lower(root.get("name")), containsPattern(titleCont), ESCAPE);
+            return narrow(root, cb, taskSearchIndex.findByName(titleCont), like);
+        };
+    }
+
+    private Specification<Task> withTextCont(String textCont) {
+        return (root, query, cb) -> {
+            if (textCont == null) {
+                return cb.conjunction();
+            }
+            var pattern = containsPattern(textCont);
+            var like = cb.or(
+                    cb.like(cb.lower(root.get("name")), pattern, ESCAPE),
+                    cb.like(cb.lower(root.get("description")), pattern, ESCAPE));
+            return narrow(root, cb, taskSearchIndex.findByText(textCont), like);
+        };
+    }
+
+    // Index candidates are a superset of the matches, so the LIKE stays as the final check
+    private static Predicate narrow(Root<Task> root, CriteriaBuilder cb, Optional<Set<Long>> candidates,
+                                    Predicate like) {
+        return candidates
+                .map(ids -> ids.isEmpty() ? cb.disjunction() : cb.and(root.get("id").in(ids), like))
+                .orElse(like);
     }
 
     private Specification<Task> withStatus(String status) {
@@ -38,4 +83,12 @@ public class TaskSpecification {
                         cb.conjunction() :
                         cb.equal(root.get("taskStatus").get("slug"), status);
     }
+
+    private static String containsPattern(String value) {
+        var escaped = value.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
 }
@@ -11,17 +11,19 @@ import org.springframework.stereotype.Component;
 
 @Component
 public class JWTUtils {
+    public static final String USER_ID_CLAIM = "uid";
 
     @Autowired
     private JwtEncoder encoder;
 
-    public String generateToken(String username) {
+    public String generateToken(String username, Long userId) {
         Instant now = Instant.now();
         JwtClaimsSet claims = JwtClaimsSet.builder()
                 .issuer("self")
                 .issuedAt(now)
                 .expiresAt(now.plus(1, ChronoUnit.HOURS))
                 .subject(username)
+                .claim(USER_ID_CLAIM, userId)
                 .build();
         return this.encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
     }
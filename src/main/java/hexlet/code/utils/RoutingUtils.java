@@ -0,0 +1,28 @@
+package hexlet.code.utils;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+public final class RoutingUtils {
+    private static final String PRIMARY_ONLY = RoutingUtils.class.getName() + ".PRIMARY_ONLY";
+
+    private RoutingUtils() {
+    }
+
+    /**
+     * Makes the rest of the current request read from the primary even in read-only transactions.
+     * Does nothing outside a request.
+     */
+    public static void pinRequestToPrimary() {
+        var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(PRIMARY_ONLY, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    public static boolean isRequestPinnedToPrimary() {
+        var attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                && attributes.getAttribute(PRIMARY_ONLY, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+}
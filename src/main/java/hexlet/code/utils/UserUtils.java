@@ -4,6 +4,7 @@ import hexlet.code.model.User;
 import hexlet.code.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -21,8 +22,24 @@ public class UserUtils {
         return userRepository.findByEmail(email).orElse(null);
     }
 
+    /**
+     * Resolves the id of the authenticated user from the token's uid claim, falling back to
+     * a cached lookup by email for tokens issued without it.
+     */
+    public Long getCurrentUserId() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        if (authentication.getPrincipal() instanceof Jwt jwt
+                && jwt.getClaim(JWTUtils.USER_ID_CLAIM) instanceof Number userId) {
+            return userId.longValue();
+        }
+        return userRepository.findIdByEmail(authentication.getName()).orElse(null);
+    }
+
     public boolean isCurrentUser(Long id) {
-        var user = getCurrentUser();
-        return user != null && user.getId().equals(id);
+        var userId = getCurrentUserId();
+        return userId != null && userId.equals(id);
     }
 }
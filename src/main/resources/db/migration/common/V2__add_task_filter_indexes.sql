@@ -0,0 +1,12 @@
+-- Composite indexes for the TaskSpecification filters. Each one ends with the (index, id)
+-- keyset order of the task list, so a filtered page is read in order without a sort.
+CREATE INDEX idx_tasks_index_id ON tasks (index, id);
+
+CREATE INDEX idx_tasks_assignee_index_id ON tasks (assignee_id, index, id);
+
+CREATE INDEX idx_tasks_status_index_id ON tasks (task_status_id, index, id);
+
+-- labelId filter goes label -> tasks, label id loading for a page goes tasks -> labels
+CREATE INDEX idx_task_labels_label_task ON task_labels (label_id, task_id);
+
+CREATE INDEX idx_task_labels_task_label ON task_labels (task_id, label_id);
@@ -0,0 +1,9 @@
+-- Trigram indexes serving the case-insensitive substring filters of TaskSpecification
+-- (lower(column) LIKE '%...%'), which a B-tree index cannot answer. Creating the
+-- extension needs a role allowed to do so; IF NOT EXISTS keeps databases that already ran
+-- the old spring.sql.init script working.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_name_trgm ON tasks USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_description_trgm ON tasks USING gin (lower(description) gin_trgm_ops);
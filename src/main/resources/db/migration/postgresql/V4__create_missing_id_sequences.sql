@@ -0,0 +1,14 @@
+-- Databases created by Hibernate ddl-auto before Flyway have IDENTITY id columns and are baselined
+-- at V1, so they never got the sequences from V1__create_schema.sql. Create them and move each one
+-- past the current ids: with the pooled optimizer a call returning N hands out N-49..N, hence the
+-- +50. GREATEST with nextval keeps a sequence that is already in use from going backwards.
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS task_statuses_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS labels_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tasks_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('users_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM users) + 50, nextval('users_seq')), false);
+SELECT setval('task_statuses_seq',
+              GREATEST((SELECT COALESCE(MAX(id), 0) FROM task_statuses) + 50, nextval('task_statuses_seq')), false);
+SELECT setval('labels_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM labels) + 50, nextval('labels_seq')), false);
+SELECT setval('tasks_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM tasks) + 50, nextval('tasks_seq')), false);
@@ -0,0 +1,69 @@
+package hexlet.code.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import hexlet.code.event.TaskBatchChangedEvent;
+import hexlet.code.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+class TaskSearchIndexTest {
+    private TaskRepository taskRepository;
+    private TaskSearchIndex taskSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        taskSearchIndex = new TaskSearchIndex(taskRepository);
+        ReflectionTestUtils.setField(taskSearchIndex, "enabled", true);
+        ReflectionTestUtils.setField(taskSearchIndex, "maxCandidates", 1000);
+    }
+
+    @Test
+    void testUpdatesDuringBuildWinOverScannedRows() {
+        // The listener reports a rename and a delete that the scan, reading an older snapshot, does not see
+        var rows = Stream.<TaskRepository.SearchText>of(
+                new Row(1L, "old title", ""),
+                new Row(2L, "deleted title", ""),
+                new Row(3L, "kept title", "")
+        ).peek(row -> {
+            if (row.getId() == 1L) {
+                taskSearchIndex.put(1L, "new title", "");
+                taskSearchIndex.remove(2L);
+            }
+        });
+        when(taskRepository.streamSearchText()).thenReturn(rows);
+
+        assertThat(taskSearchIndex.findByName("title")).isEmpty();
+        taskSearchIndex.build();
+
+        assertThat(taskSearchIndex.findByName("new title")).isEqualTo(Optional.of(Set.of(1L)));
+        assertThat(taskSearchIndex.findByName("old title")).isEqualTo(Optional.of(Set.of()));
+        assertThat(taskSearchIndex.findByName("title")).isEqualTo(Optional.of(Set.of(1L, 3L)));
+
+        taskSearchIndex.put(4L, "later title", "");
+        assertThat(taskSearchIndex.findByName("later")).isEqualTo(Optional.of(Set.of(4L)));
+    }
+
+    @Test
+    void testBulkDeleteRemovesTasks() {
+        when(taskRepository.streamSearchText()).thenReturn(Stream.of(new Row(1L, "first title", "")));
+        taskSearchIndex.build();
+        taskSearchIndex.put(2L, "second title", "");
+
+        taskSearchIndex.onTaskBatchChanged(TaskBatchChangedEvent.deleted(List.of(1L, 2L)));
+
+        assertThat(taskSearchIndex.findByName("title")).isEqualTo(Optional.of(Set.of()));
+    }
+
+    private record Row(Long getId, String getName, String getDescription) implements TaskRepository.SearchText {
+    }
+}
@@ -0,0 +1,144 @@
+package hexlet.code.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import hexlet.code.dto.label.LabelCreateDTO;
+import hexlet.code.model.User;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.service.LabelService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:primarydb;MODE=PostgreSQL",
+    "app.datasource.replica.jdbc-url=jdbc:h2:mem:replicadb;MODE=PostgreSQL;"
+            + "INIT=RUNSCRIPT FROM 'classpath:db/migration/common/V1__create_schema.sql'",
+    "app.datasource.replica.username=sa",
+    "app.datasource.replica.read-your-writes=1s"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReplicaRoutingTest {
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private LabelService labelService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testReadOnlyTransactionUsesReplica() {
+        assertThat(databaseIn(true)).isEqualTo("REPLICADB");
+    }
+
+    @Test
+    void testWriteTransactionUsesPrimary() {
+        assertThat(databaseIn(false)).isEqualTo("PRIMARYDB");
+    }
+
+    @Test
+    void testWriterReadsFromPrimaryWithinWindow() throws Exception {
+        loginAs("writer@example.com");
+        labelService.create(label("written to primary"));
+        assertThat(databaseIn(true)).isEqualTo("PRIMARYDB");
+
+        loginAs("reader@example.com");
+        assertThat(databaseIn(true)).isEqualTo("REPLICADB");
+
+        loginAs("writer@example.com");
+        Thread.sleep(1_500);
+        assertThat(databaseIn(true)).isEqualTo("REPLICADB");
+    }
+
+    @Test
+    void testETagResponsesReadFromPrimary() throws Exception {
+        loginAs("writer@example.com");
+        labelService.create(label("behind on replica"));
+        SecurityContextHolder.clearContext();
+
+        // The replica never receives the label, so listing it proves the read went to the primary
+        mockMvc.perform(get("/api/labels").with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.name == 'behind on replica')]").exists());
+    }
+
+    @Test
+    void testWriteAfterReadInSameRequestGoesToPrimary() throws Exception {
+        var user = new User();
+        user.setEmail("read-then-write@example.com");
+        user.setFirstName("Before");
+        user.setPasswordDigest("digest");
+        userRepository.save(user);
+        new JdbcTemplate(replicaDataSource).update(
+                "insert into users (id, email, first_name, password) values (?, ?, ?, ?)",
+                user.getId(), user.getEmail(), user.getFirstName(), user.getPassword());
+
+        // Without a uid claim the access check first looks the id up by email in a read-only transaction
+        var token = jwt().jwt(builder -> builder.subject(user.getEmail()));
+        mockMvc.perform(put("/api/users/" + user.getId()).with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\": \"After\"}"))
+                .andExpect(status().isOk());
+
+        assertThat(new JdbcTemplate(primaryDataSource).queryForObject(
+                "select first_name from users where id = ?", String.class, user.getId())).isEqualTo("After");
+    }
+
+    private String databaseIn(boolean readOnly) {
+        var template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> new JdbcTemplate(dataSource).queryForObject("select database()",
+                String.class));
+    }
+
+    private static void loginAs(String email) {
+        var authentication = new TestingAuthenticationToken(email, null, "ROLE_USER");
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    private static LabelCreateDTO label(String name) {
+        var label = new LabelCreateDTO();
+        label.setName(name);
+        return label;
+    }
+}
@@ -1,22 +1,35 @@
 package hexlet.code.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import hexlet.code.dto.AuthRequest;
 import hexlet.code.model.User;
 import hexlet.code.repository.UserRepository;
+import hexlet.code.utils.JWTUtils;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
@@ -31,6 +44,15 @@ class AuthenticationControllerTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ThreadPoolTaskExecutor passwordHashingExecutor;
+
     @Test
     void login_withValidCredentials_returnsToken() throws Exception {
         // Создание тестового пользователя с заполненными обязательными полями
@@ -45,10 +67,116 @@ class AuthenticationControllerTest {
         authRequest.setUsername("test@example.com");
         authRequest.setPassword("password");
 
-        mockMvc.perform(post("/api/login")
+        var login = mockMvc.perform(post("/api/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new ObjectMapper().writeValueAsString(authRequest)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var token = mockMvc.perform(asyncDispatch(login))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isString()) // Токен возвращается как строка, не как JSON объект
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        var jwt = jwtDecoder.decode(token);
+        assertThat(jwt.getSubject()).isEqualTo("test@example.com");
+        assertThat(jwt.<Long>getClaim(JWTUtils.USER_ID_CLAIM)).isEqualTo(user.getId());
+    }
+
+    @Test
+    void login_withInvalidPassword_returnsUnauthorized() throws Exception {
+        User user = new User();
+        user.setEmail("wrong-password@example.com");
+        user.setPasswordDigest(passwordEncoder.encode("password"));
+        userRepository.save(user);
+
+        AuthRequest authRequest = new AuthRequest();
+        authRequest.setUsername("wrong-password@example.com");
+        authRequest.setPassword("not-the-password");
+
+        var login = mockMvc.perform(post("/api/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new ObjectMapper().writeValueAsString(authRequest)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(login))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void login_tokenIsVerifiedOncePerCacheLifetime() throws Exception {
+        User user = new User();
+        user.setEmail("cached@example.com");
+        user.setPasswordDigest(passwordEncoder.encode("password"));
+        userRepository.save(user);
+
+        AuthRequest authRequest = new AuthRequest();
+        authRequest.setUsername("cached@example.com");
+        authRequest.setPassword("password");
+
+        var login = mockMvc.perform(post("/api/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(new ObjectMapper().writeValueAsString(authRequest)))
+                .andReturn();
+
+        var token = mockMvc.perform(asyncDispatch(login))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isString()); // Токен возвращается как строка, не как JSON объект
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        var hits = meterRegistry.get("cache.gets").tags("cache", "jwtDecoder", "result", "hit").functionCounter();
+        var hitsBefore = hits.count();
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/labels").header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk());
+        }
+
+        assertThat(hits.count() - hitsBefore).isEqualTo(2);
+    }
+
+    @Test
+    void login_whenHashingQueueIsFull_returnsServiceUnavailable() throws Exception {
+        AuthRequest authRequest = new AuthRequest();
+        authRequest.setUsername("busy@example.com");
+        authRequest.setPassword("password");
+
+        int threads = passwordHashingExecutor.getMaxPoolSize();
+        var started = new CountDownLatch(threads);
+        var release = new CountDownLatch(1);
+        Runnable blocker = () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        try {
+            // Occupies every hashing thread first, so the queue behind them is filled exactly
+            for (int i = 0; i < threads; i++) {
+                passwordHashingExecutor.execute(blocker);
+            }
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < passwordHashingExecutor.getQueueCapacity(); i++) {
+                passwordHashingExecutor.execute(blocker);
+            }
+
+            mockMvc.perform(post("/api/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(new ObjectMapper().writeValueAsString(authRequest)))
+                    .andExpect(request().asyncNotStarted())
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        } finally {
+            release.countDown();
+        }
+
+        var rejected = meterRegistry.get("auth.login").tags("outcome", "rejected").timer();
+        assertThat(rejected.count()).isPositive();
     }
 }
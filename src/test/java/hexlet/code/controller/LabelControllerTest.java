@@ -34,6 +34,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -97,6 +98,31 @@ public class LabelControllerTest {
         assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
     }
 
+    @Test
+    void testIndexNotModified() throws Exception {
+        var eTag = mockMvc.perform(get("/api/labels").with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+        assertThat(eTag).startsWith("W/");
+
+        mockMvc.perform(get("/api/labels").with(jwt()).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag));
+
+        var labelCreateDTO = new LabelCreateDTO();
+        labelCreateDTO.setName("Another label");
+        mockMvc.perform(post("/api/labels").with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(labelCreateDTO)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/labels").with(jwt()).header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "2"));
+    }
+
     @Test
     void testShow() throws Exception {
         var result = mockMvc.perform(get("/api/labels/" + testLabel.getId()).with(jwt()))
@@ -2,15 +2,22 @@ package hexlet.code.controller;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.config.CacheConfig;
 import hexlet.code.dto.task.TaskDTO;
 import hexlet.code.mapper.TaskMapper;
 import hexlet.code.model.Label;
@@ -21,14 +28,19 @@ import hexlet.code.repository.LabelRepository;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.repository.UserRepository;
+import hexlet.code.service.impl.CustomUserDetailsService;
 import hexlet.code.util.ModelGenerator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hamcrest.Matchers;
 import org.instancio.Instancio;
+import org.instancio.Select;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openapitools.jackson.nullable.JsonNullableModule;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.web.servlet.MockMvc;
@@ -36,8 +48,11 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 @SpringBootTest
@@ -70,6 +85,15 @@ public class TaskControllerTest {
     @Autowired
     private LabelRepository labelRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
     private SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token;
 
     private Task testTask;
@@ -86,6 +110,7 @@ public class TaskControllerTest {
         userRepository.deleteAll();
         taskStatusRepository.deleteAll();
         labelRepository.deleteAll();
+        cacheManager.getCache(CacheConfig.TASK_COUNTS).clear();
 
         mockMvc = MockMvcBuilders.webAppContextSetup(wac)
                 .defaultResponseCharacterEncoding(StandardCharsets.UTF_8)
@@ -126,6 +151,204 @@ public class TaskControllerTest {
         assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
     }
 
+    @Test
+    void testIndexWithFilters() throws Exception {
+        var otherTask = Instancio.of(modelGenerator.getTaskModel()).create();
+        otherTask.setTaskStatus(testTaskStatus);
+        taskRepository.save(otherTask);
+
+        var query = "?status=" + testTaskStatus.getSlug()
+                + "&assigneeId=" + testUser.getId()
+                + "&labelId=" + testLabel.getId()
+                + "&titleCont=" + testTask.getName().substring(1, 4).toUpperCase();
+        var result = mockMvc.perform(get("/api/tasks" + query).with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        var taskDTOs = objectMapper.readValue(result.getResponse().getContentAsString(),
+                new TypeReference<List<TaskDTO>>() {});
+
+        assertThat(taskDTOs).hasSize(1);
+        var taskDTO = taskDTOs.get(0);
+        assertThat(taskDTO.getId()).isEqualTo(testTask.getId());
+        assertThat(taskDTO.getStatus()).isEqualTo(testTaskStatus.getSlug());
+        assertThat(taskDTO.getAssigneeId()).isEqualTo(testUser.getId());
+        assertThat(taskDTO.getTaskLabelIds()).containsExactly(testLabel.getId());
+    }
+
+    @Test
+    void testIndexWithTitleContUnderTurkishLocale() throws Exception {
+        var otherTask = Instancio.of(modelGenerator.getTaskModel()).create();
+        otherTask.setName("Fix the title bar");
+        otherTask.setTaskStatus(testTaskStatus);
+        taskRepository.save(otherTask);
+
+        var defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            mockMvc.perform(get("/api/tasks").param("titleCont", "TITLE BAR").with(jwt()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[*].id").value(Matchers.contains(otherTask.getId().intValue())));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void testIndexWithTextCont() throws Exception {
+        var otherTask = Instancio.of(modelGenerator.getTaskModel()).create();
+        otherTask.setName("Unrelated");
+        otherTask.setDescription("Needs 100% coverage");
+        otherTask.setTaskStatus(testTaskStatus);
+        taskRepository.save(otherTask);
+
+        var result = mockMvc.perform(get("/api/tasks").param("textCont", "100% COVER").with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn();
+        var taskDTOs = objectMapper.readValue(result.getResponse().getContentAsString(),
+                new TypeReference<List<TaskDTO>>() {});
+        assertThat(taskDTOs).extracting(TaskDTO::getId).containsExactly(otherTask.getId());
+
+        result = mockMvc.perform(get("/api/tasks").param("textCont", "%").with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn();
+        taskDTOs = objectMapper.readValue(result.getResponse().getContentAsString(),
+                new TypeReference<List<TaskDTO>>() {});
+        assertThat(taskDTOs).extracting(TaskDTO::getId).containsExactly(otherTask.getId());
+    }
+
+    @Test
+    void testIndexWithTitleContAfterRename() throws Exception {
+        var data = new HashMap<>();
+        data.put("title", "Refactor parser");
+        mockMvc.perform(put("/api/tasks/" + testTask.getId()).with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(data)))
+                .andExpect(status().isOk());
+
+        var result = mockMvc.perform(get("/api/tasks").param("titleCont", "PARSER").with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn();
+        var taskDTOs = objectMapper.readValue(result.getResponse().getContentAsString(),
+                new TypeReference<List<TaskDTO>>() {});
+        assertThat(taskDTOs).extracting(TaskDTO::getId).containsExactly(testTask.getId());
+
+        data.put("title", "Fix file watcher");
+        mockMvc.perform(put("/api/tasks/" + testTask.getId()).with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(data)))
+                .andExpect(status().isOk());
+
+        result = mockMvc.perform(get("/api/tasks").param("titleCont", "parser").with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn();
+        taskDTOs = objectMapper.readValue(result.getResponse().getContentAsString(),
+                new TypeReference<List<TaskDTO>>() {});
+        assertThat(taskDTOs).isEmpty();
+
+        result = mockMvc.perform(get("/api/tasks").param("titleCont", "watch").with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn();
+        taskDTOs = objectMapper.readValue(result.getResponse().getContentAsString(),
+                new TypeReference<List<TaskDTO>>() {});
+        assertThat(taskDTOs).extracting(TaskDTO::getId).containsExactly(testTask.getId());
+    }
+
+    @Test
+    void testIndexWithCursor() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            var task = Instancio.of(modelGenerator.getTaskModel()).create();
+            task.setTaskStatus(testTaskStatus);
+            taskRepository.save(task);
+        }
+
+        var expected = taskRepository.findAll().stream()
+                .sorted(Comparator.comparingInt(Task::getIndex).thenComparing(Task::getId))
+                .map(Task::getId)
+                .toList();
+
+        var actual = new ArrayList<Long>();
+        var query = "pageSize=2";
+        while (query != null) {
+            var response = mockMvc.perform(get("/api/tasks?" + query).with(jwt()))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse();
+            var page = objectMapper.readValue(response.getContentAsString(), new TypeReference<List<TaskDTO>>() {});
+            assertThat(page).hasSizeLessThanOrEqualTo(2);
+            assertThat(response.getHeader("X-Total-Count")).isEqualTo(String.valueOf(expected.size()));
+            page.forEach(taskDTO -> actual.add(taskDTO.getId()));
+
+            var cursor = response.getHeader("X-Next-Cursor");
+            query = cursor == null ? null : "pageSize=2&" + cursor;
+        }
+
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void testIndexWithInvalidPageSize() throws Exception {
+        mockMvc.perform(get("/api/tasks?pageSize=0").with(jwt()))
+                .andExpect(status().isUnprocessableEntity());
+        mockMvc.perform(get("/api/tasks?pageSize=2&afterId=1").with(jwt()))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void testExport() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            var task = Instancio.of(modelGenerator.getTaskModel()).create();
+            task.setTaskStatus(testTaskStatus);
+            taskRepository.save(task);
+        }
+
+        var export = mockMvc.perform(get("/api/tasks/export").with(jwt()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        var body = mockMvc.perform(asyncDispatch(export))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(body).endsWith("\n");
+        var lines = body.lines().toList();
+        assertThat(lines).hasSize(4);
+        List<TaskDTO> taskDTOs = new ArrayList<>();
+        for (var line : lines) {
+            taskDTOs.add(objectMapper.readValue(line, TaskDTO.class));
+        }
+        var expected = taskRepository.findAll().stream()
+                .sorted(Comparator.comparing(Task::getIndex).thenComparing(Task::getId))
+                .map(Task::getId)
+                .toList();
+        assertThat(taskDTOs).extracting(TaskDTO::getId).containsExactlyElementsOf(expected);
+        assertThat(taskDTOs.get(expected.indexOf(testTask.getId())).getTaskLabelIds())
+                .containsExactly(testLabel.getId());
+    }
+
+    @Test
+    void testSummary() throws Exception {
+        var otherTask = Instancio.of(modelGenerator.getTaskModel()).create();
+        otherTask.setTaskStatus(testTaskStatus);
+        taskRepository.save(otherTask);
+
+        mockMvc.perform(get("/api/tasks/summary").with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.byStatus['" + testTaskStatus.getSlug() + "']").value(2))
+                .andExpect(jsonPath("$.byAssignee['" + testUser.getId() + "']").value(1))
+                .andExpect(jsonPath("$.unassigned").value(1))
+                .andExpect(jsonPath("$.byLabel['" + testLabel.getId() + "']").value(1));
+
+        mockMvc.perform(get("/api/tasks/summary?labelId=" + testLabel.getId()).with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.byStatus['" + testTaskStatus.getSlug() + "']").value(1))
+                .andExpect(jsonPath("$.unassigned").value(0));
+    }
+
     @Test
     void testShow() throws Exception {
         var result = mockMvc.perform(get("/api/tasks/" + testTask.getId()).with(jwt()))
@@ -142,6 +365,29 @@ public class TaskControllerTest {
         assertThat(taskDTO.getAssigneeId()).isEqualTo(testUser.getId());
     }
 
+    @Test
+    void testShowNotModifiedUntilStatusChanges() throws Exception {
+        var eTag = mockMvc.perform(get("/api/tasks/" + testTask.getId()).with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mockMvc.perform(get("/api/tasks/" + testTask.getId()).with(jwt()).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        var data = new HashMap<>();
+        data.put("slug", "renamed_slug");
+        mockMvc.perform(put("/api/task_statuses/" + testTaskStatus.getId()).with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(data)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tasks/" + testTask.getId()).with(jwt()).header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("renamed_slug"));
+    }
+
     @Test
     void testShowNotFound() throws Exception {
         var result = mockMvc.perform(get("/api/tasks/9999").with(jwt()))
@@ -181,6 +427,245 @@ public class TaskControllerTest {
         assertThat(createdTask.getName()).isEqualTo("New Task title");
     }
 
+    @Test
+    void testCreateBatch() throws Exception {
+        var tasksBefore = taskRepository.count();
+        var data = new ArrayList<Map<String, Object>>();
+        for (int i = 0; i < 3; i++) {
+            var task = new HashMap<String, Object>();
+            task.put("title", "Imported task " + i);
+            task.put("status", testTaskStatus.getSlug());
+            task.put("assigneeId", testUser.getId());
+            task.put("taskLabelIds", List.of(testLabel.getId()));
+            task.put("index", i);
+            data.add(task);
+        }
+
+        var result = mockMvc.perform(post("/api/tasks/batch").with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(data)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        var created = objectMapper.readValue(result.getResponse().getContentAsString(),
+                new TypeReference<List<TaskDTO>>() {});
+
+        assertThat(created).extracting(TaskDTO::getTitle)
+                .containsExactly("Imported task 0", "Imported task 1", "Imported task 2");
+        assertThat(created).allSatisfy(taskDTO -> {
+            assertThat(taskDTO.getId()).isNotNull();
+            assertThat(taskDTO.getStatus()).isEqualTo(testTaskStatus.getSlug());
+            assertThat(taskDTO.getAssigneeId()).isEqualTo(testUser.getId());
+            assertThat(taskDTO.getTaskLabelIds()).containsExactly(testLabel.getId());
+        });
+        assertThat(taskRepository.count()).isEqualTo(tasksBefore + 3);
+    }
+
+    @Test
+    void testCreateBatchWithUnknownStatus() throws Exception {
+        var tasksBefore = taskRepository.count();
+        var data = List.of(
+                Map.of("title", "Valid task", "status", testTaskStatus.getSlug()),
+                Map.of("title", "Invalid task", "status", "missing-status"));
+
+        mockMvc.perform(post("/api/tasks/batch").with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(data)))
+                .andExpect(status().isNotFound());
+
+        assertThat(taskRepository.count()).isEqualTo(tasksBefore);
+    }
+
+    @Test
+    void testCreateBatchWithUnknownAssignee() throws Exception {
+        var tasksBefore = taskRepository.count();
+        var data = List.of(
+                Map.of("title", "Valid task", "status", testTaskStatus.getSlug(), "assigneeId", testUser.getId()),
+                Map.of("title", "Invalid task", "status", testTaskStatus.getSlug(), "assigneeId", 99999));
+
+        mockMvc.perform(post("/api/tasks/batch").with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(data)))
+                .andExpect(status().isNotFound())
+                .andExpect(content().string(Matchers.containsString("99999")));
+
+        assertThat(taskRepository.count()).isEqualTo(tasksBefore);
+    }
+
+    @Test
+    void testCreateBatchWithUnknownLabels() throws Exception {
+        var tasksBefore = taskRepository.count();
+        var data = List.of(
+                Map.of("title", "Valid task", "status", testTaskStatus.getSlug(),
+                        "taskLabelIds", List.of(testLabel.getId())),
+                Map.of("title", "Invalid task", "status", testTaskStatus.getSlug(),
+                        "taskLabelIds", List.of(testLabel.getId(), 99998, 99999)));
+
+        mockMvc.perform(post("/api/tasks/batch").with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(data)))
+                .andExpect(status().isNotFound())
+                .andExpect(content().string(Matchers.containsString("[99998, 99999]")));
+
+        assertThat(taskRepository.count()).isEqualTo(tasksBefore);
+    }
+
+    @Test
+    void testCreateBatchWithInvalidData() throws Exception {
+        var data = List.of(Map.of("title", "", "status", testTaskStatus.getSlug()));
+
+        mockMvc.perform(post("/api/tasks/batch").with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(data)))
+                .andExpect(status().isUnprocessableEntity());
+
+        mockMvc.perform(post("/api/tasks/batch").with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void testCreateAfterStatusSlugChange() throws Exception {
+        var oldSlug = testTaskStatus.getSlug();
+        var task = Map.of("title", "Cached status task", "status", oldSlug);
+        mockMvc.perform(post("/api/tasks").with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(put("/api/task_statuses/" + testTaskStatus.getId()).with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("slug", "renamed-status"))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/tasks").with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isNotFound());
+
+        var renamed = Map.of("title", "Cached status task", "status", "renamed-status");
+        var result = mockMvc.perform(post("/api/tasks").with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(renamed)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        var taskDTO = objectMapper.readValue(result.getResponse().getContentAsString(), TaskDTO.class);
+        assertThat(taskDTO.getStatus()).isEqualTo("renamed-status");
+    }
+
+    @Test
+    void testEvents() throws Exception {
+        var otherStatus = Instancio.of(modelGenerator.getTaskStatusModel()).create();
+        taskStatusRepository.save(otherStatus);
+
+        var events = mockMvc.perform(get("/api/tasks/events").param("status", testTaskStatus.getSlug()).with(jwt()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var matching = new HashMap<>();
+        matching.put("title", "Streamed task");
+        matching.put("status", testTaskStatus.getSlug());
+        var other = new HashMap<>();
+        other.put("title", "Filtered out task");
+        other.put("status", otherStatus.getSlug());
+        for (var data : List.of(matching, other)) {
+            mockMvc.perform(post("/api/tasks").with(jwt())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(data)))
+                    .andExpect(status().isCreated());
+        }
+        var move = Map.of("status", otherStatus.getSlug());
+        mockMvc.perform(put("/api/tasks/" + testTask.getId()).with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(move)))
+                .andExpect(status().isOk());
+
+        var body = "";
+        for (int attempt = 0; attempt < 50 && !body.contains("event:removed"); attempt++) {
+            Thread.sleep(100);
+            body = events.getResponse().getContentAsString();
+        }
+        assertThat(body)
+                .contains("event:created", "Streamed task", "event:removed", "\"id\":" + testTask.getId())
+                .doesNotContain("Filtered out task");
+    }
+
+    @Test
+    void testEventsForBatchLargerThanQueue() throws Exception {
+        var events = mockMvc.perform(get("/api/tasks/events").param("status", testTaskStatus.getSlug()).with(jwt()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var data = new ArrayList<Map<String, Object>>();
+        for (int i = 0; i < 300; i++) {
+            data.add(Map.of("title", "Imported task " + i, "status", testTaskStatus.getSlug()));
+        }
+        mockMvc.perform(post("/api/tasks/batch").with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(data)))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/tasks").with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("title", "After the batch",
+                                "status", testTaskStatus.getSlug()))))
+                .andExpect(status().isCreated());
+
+        var body = "";
+        for (int attempt = 0; attempt < 50 && !body.contains("After the batch"); attempt++) {
+            Thread.sleep(100);
+            body = events.getResponse().getContentAsString();
+        }
+        assertThat(body).contains("event:created-batch", "Imported task 299", "event:created", "After the batch");
+        assertThat(events.getRequest().isAsyncStarted()).isTrue();
+    }
+
+    @Test
+    void testEventsForDeletedAssignee() throws Exception {
+        var events = mockMvc.perform(get("/api/tasks/events").param("status", testTaskStatus.getSlug()).with(jwt()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var securedMockMvc = MockMvcBuilders.webAppContextSetup(wac).apply(springSecurity()).build();
+        var userToken = jwt().jwt(builder -> builder.subject(testUser.getEmail()));
+        securedMockMvc.perform(delete("/api/users/" + testUser.getId()).with(userToken))
+                .andExpect(status().isNoContent());
+
+        var body = "";
+        for (int attempt = 0; attempt < 50 && !body.contains("event:deleted-batch"); attempt++) {
+            Thread.sleep(100);
+            body = events.getResponse().getContentAsString();
+        }
+        assertThat(body).contains("event:deleted-batch", "\"ids\":[" + testTask.getId() + "]");
+    }
+
+    @Test
+    void testDuplicateLabelIdsAreStoredOnce() throws Exception {
+        var labelIds = List.of(testLabel.getId(), testLabel.getId());
+        var data = new HashMap<String, Object>();
+        data.put("title", "Task with repeated labels");
+        data.put("status", testTaskStatus.getSlug());
+        data.put("taskLabelIds", labelIds);
+        var created = mockMvc.perform(post("/api/tasks").with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(data)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        var createdId = objectMapper.readValue(created.getResponse().getContentAsString(), TaskDTO.class).getId();
+
+        mockMvc.perform(put("/api/tasks/" + testTask.getId()).with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("taskLabelIds", labelIds))))
+                .andExpect(status().isOk());
+
+        for (var id : List.of(createdId, testTask.getId())) {
+            mockMvc.perform(get("/api/tasks/" + id).with(jwt()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.taskLabelIds").value(Matchers.contains(testLabel.getId().intValue())));
+        }
+    }
+
     @Test
     void testUpdate() throws Exception {
         var data = new HashMap<>();
@@ -201,6 +686,88 @@ public class TaskControllerTest {
         assertThat(updatedTask.getDescription()).isEqualTo("Updated content");
     }
 
+    @Test
+    void testMove() throws Exception {
+        var otherStatus = Instancio.of(modelGenerator.getTaskStatusModel()).create();
+        otherStatus.setName("Move target");
+        otherStatus.setSlug("move_target");
+        taskStatusRepository.save(otherStatus);
+        var first = Instancio.of(modelGenerator.getTaskModel()).set(Select.field(Task::getIndex), 1024).create();
+        first.setTaskStatus(otherStatus);
+        var second = Instancio.of(modelGenerator.getTaskModel()).set(Select.field(Task::getIndex), 2048).create();
+        second.setTaskStatus(otherStatus);
+        taskRepository.saveAll(List.of(first, second));
+
+        var data = Map.of("status", otherStatus.getSlug(), "afterId", first.getId(), "beforeId", second.getId());
+        var request = post("/api/tasks/" + testTask.getId() + "/move").with(jwt())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(data));
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(otherStatus.getSlug()))
+                .andExpect(jsonPath("$.index").value(1536));
+
+        var end = Map.of("status", otherStatus.getSlug());
+        mockMvc.perform(post("/api/tasks/" + first.getId() + "/move").with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(end)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.index").value(2048 + 1024));
+    }
+
+    @Test
+    void testMoveRebalancesColumn() throws Exception {
+        var first = Instancio.of(modelGenerator.getTaskModel()).set(Select.field(Task::getIndex), 7).create();
+        first.setTaskStatus(testTaskStatus);
+        var second = Instancio.of(modelGenerator.getTaskModel()).set(Select.field(Task::getIndex), 8).create();
+        second.setTaskStatus(testTaskStatus);
+        taskRepository.saveAll(List.of(first, second));
+        mockMvc.perform(get("/api/task_statuses/" + testTaskStatus.getId()).with(jwt())).andExpect(status().isOk());
+        var secondLevelCache = entityManagerFactory.getCache();
+        assertThat(secondLevelCache.contains(TaskStatus.class, testTaskStatus.getId())).isTrue();
+
+        var data = Map.of("status", testTaskStatus.getSlug(), "afterId", first.getId(), "beforeId", second.getId());
+        mockMvc.perform(post("/api/tasks/" + testTask.getId() + "/move").with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(data)))
+                .andExpect(status().isOk());
+        assertThat(secondLevelCache.contains(TaskStatus.class, testTaskStatus.getId())).isTrue();
+
+        var result = mockMvc.perform(get("/api/tasks?status=" + testTaskStatus.getSlug()).with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn();
+        var taskDTOs = objectMapper.readValue(result.getResponse().getContentAsString(),
+                new TypeReference<List<TaskDTO>>() {});
+        var ids = taskDTOs.stream().map(TaskDTO::getId).toList();
+        assertThat(ids).containsSubsequence(first.getId(), testTask.getId(), second.getId());
+        assertThat(taskDTOs).extracting(TaskDTO::getIndex).doesNotHaveDuplicates();
+
+        var reversed = Map.of("status", testTaskStatus.getSlug(), "afterId", second.getId(),
+                "beforeId", first.getId());
+        mockMvc.perform(post("/api/tasks/" + testTask.getId() + "/move").with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(reversed)))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void testMoveWithReversedNeighboursKeepsColumn() throws Exception {
+        var first = Instancio.of(modelGenerator.getTaskModel()).set(Select.field(Task::getIndex), 7).create();
+        first.setTaskStatus(testTaskStatus);
+        var second = Instancio.of(modelGenerator.getTaskModel()).set(Select.field(Task::getIndex), 8).create();
+        second.setTaskStatus(testTaskStatus);
+        taskRepository.saveAll(List.of(first, second));
+
+        var data = Map.of("status", testTaskStatus.getSlug(), "afterId", second.getId(), "beforeId", first.getId());
+        mockMvc.perform(post("/api/tasks/" + testTask.getId() + "/move").with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(data)))
+                .andExpect(status().isUnprocessableEntity());
+
+        assertThat(taskRepository.findById(first.getId()).get().getIndex()).isEqualTo(7);
+        assertThat(taskRepository.findById(second.getId()).get().getIndex()).isEqualTo(8);
+    }
+
     @Test
     void testUpdateNotFound() throws Exception {
         var data = Map.of("title", "Updated title");
@@ -227,4 +794,45 @@ public class TaskControllerTest {
         mockMvc.perform(delete("/api/tasks/9999").with(jwt()))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    void testDeleteReferencedStatusAndLabel() throws Exception {
+        mockMvc.perform(delete("/api/task_statuses/" + testTaskStatus.getId()).with(jwt()))
+                .andExpect(status().isConflict());
+        mockMvc.perform(delete("/api/labels/" + testLabel.getId()).with(jwt()))
+                .andExpect(status().isConflict());
+
+        assertThat(taskStatusRepository.existsById(testTaskStatus.getId())).isTrue();
+        assertThat(labelRepository.existsById(testLabel.getId())).isTrue();
+    }
+
+    @Test
+    void testDeleteUserDetailsEvictsTaskCounts() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("pageSize", "10").with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "1"));
+
+        customUserDetailsService.deleteUser(testUser.getEmail());
+
+        assertThat(taskRepository.existsById(testTask.getId())).isFalse();
+        mockMvc.perform(get("/api/tasks").param("pageSize", "10").with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "0"));
+    }
+
+    @Test
+    void testDeleteAssigneeRemovesTasks() throws Exception {
+        var securedMockMvc = MockMvcBuilders.webAppContextSetup(wac).apply(springSecurity()).build();
+        var userToken = jwt().jwt(builder -> builder.subject(testUser.getEmail()));
+        mockMvc.perform(get("/api/task_statuses/" + testTaskStatus.getId()).with(jwt())).andExpect(status().isOk());
+        securedMockMvc.perform(delete("/api/users/" + testUser.getId()).with(userToken))
+                .andExpect(status().isNoContent());
+        assertThat(entityManagerFactory.getCache().contains(TaskStatus.class, testTaskStatus.getId())).isTrue();
+
+        assertThat(taskRepository.existsById(testTask.getId())).isFalse();
+        assertThat(labelRepository.existsById(testLabel.getId())).isTrue();
+
+        mockMvc.perform(delete("/api/labels/" + testLabel.getId()).with(jwt()))
+                .andExpect(status().isNoContent());
+    }
 }
@@ -19,9 +19,17 @@ import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.util.ModelGenerator;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.jcache.Expirable;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.internal.JCacheAccessImpl;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -55,6 +63,9 @@ public class TaskStatusControllerTest {
     @Autowired
     private TaskStatusMapper taskStatusMapper;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Autowired
     private ModelGenerator modelGenerator;
 
@@ -121,6 +132,39 @@ public class TaskStatusControllerTest {
         assertThat(taskStatusDTO.getName()).isEqualTo(testTaskStatus.getName());
     }
 
+    @Test
+    void testShowFromSecondLevelCache() throws Exception {
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        var request = get("/api/task_statuses/" + testTaskStatus.getId()).with(jwt());
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        var hits = statistics.getSecondLevelCacheHitCount();
+        mockMvc.perform(request).andExpect(status().isOk());
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThan(hits);
+
+        var naturalIdHits = statistics.getNaturalIdCacheHitCount();
+        assertThat(taskStatusRepository.findBySlug(testTaskStatus.getSlug())).isPresent();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isGreaterThan(naturalIdHits);
+    }
+
+    @Test
+    void testSecondLevelCacheHitKeepsExpiry() throws Exception {
+        var request = get("/api/task_statuses/" + testTaskStatus.getId()).with(jwt());
+        mockMvc.perform(request).andExpect(status().isOk());
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        var region = (DomainDataRegionTemplate) entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getCache()
+                .getRegion("taskStatuses");
+        var cache = ((JCacheAccessImpl) region.getCacheStorageAccess()).getUnderlyingCache();
+        var entries = ((Cache<?, ?>) cache.unwrap(Cache.class)).asMap().values();
+        var latestExpiry = System.currentTimeMillis() + Duration.ofHours(1).toMillis();
+        assertThat(entries)
+                .isNotEmpty()
+                .allSatisfy(entry -> assertThat(((Expirable<?>) entry).getExpireTimeMillis())
+                        .isLessThanOrEqualTo(latestExpiry));
+    }
+
     @Test
     void testShowNotFound() throws Exception {
         var request = get("/api/task_statuses/99999").with(jwt());
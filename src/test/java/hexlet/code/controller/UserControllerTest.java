@@ -16,6 +16,7 @@ import hexlet.code.mapper.UserMapper;
 import hexlet.code.model.User;
 import hexlet.code.repository.UserRepository;
 import hexlet.code.util.ModelGenerator;
+import hexlet.code.utils.JWTUtils;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
@@ -142,6 +143,26 @@ class UserControllerTest {
         assertThat(updatedUser.getEmail()).isEqualTo(testUser.getEmail());
     }
 
+    @Test
+    public void testUpdateWithUserIdClaim() throws Exception {
+        var claimToken = jwt().jwt(builder -> builder
+                .subject("renamed@example.com")
+                .claim(JWTUtils.USER_ID_CLAIM, testUser.getId()));
+        var data = new HashMap<>();
+        data.put("lastName", "newLastName");
+
+        var request = put("/api/users/" + testUser.getId())
+                .with(claimToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(data));
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk());
+
+        User updatedUser = userRepository.findById(testUser.getId()).orElseThrow();
+        assertThat(updatedUser.getLastName()).isEqualTo("newLastName");
+    }
+
     @Test
     public void testDelete() throws Exception {
         var request = delete("/api/users/" + testUser.getId()).with(token);
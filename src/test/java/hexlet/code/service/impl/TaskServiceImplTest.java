@@ -0,0 +1,26 @@
+package hexlet.code.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class TaskServiceImplTest {
+    @Test
+    void testRebalanceGapForSmallColumns() {
+        assertThat(TaskServiceImpl.rebalanceGap(0)).isEqualTo(TaskServiceImpl.INDEX_GAP);
+        assertThat(TaskServiceImpl.rebalanceGap(1)).isEqualTo(TaskServiceImpl.INDEX_GAP);
+        assertThat(TaskServiceImpl.rebalanceGap(2_000_000)).isEqualTo(TaskServiceImpl.INDEX_GAP);
+    }
+
+    @Test
+    void testRebalanceGapKeepsBigColumnsWithinInt() {
+        for (long size : List.of(2_097_151L, 2_097_152L, 3_000_000L, 100_000_000L, 1_000_000_000L)) {
+            var gap = TaskServiceImpl.rebalanceGap(size);
+            assertThat(gap).isBetween(2, TaskServiceImpl.INDEX_GAP);
+            assertThat(size * gap + TaskServiceImpl.INDEX_GAP).isLessThanOrEqualTo(Integer.MAX_VALUE);
+        }
+        assertThat(TaskServiceImpl.rebalanceGap(3_000_000)).isLessThan(TaskServiceImpl.INDEX_GAP);
+    }
+}
@@ -55,7 +55,7 @@ public class ModelGenerator {
                 .ignore(Select.field(Task::getAssignee))
                 .ignore(Select.field(Task::getLabels))
                 .supply(Select.field(Task::getName), () -> faker.lorem().sentence(3))
-                .supply(Select.field(Task::getDescription), () -> faker.lorem().paragraph())
+                .supply(Select.field(Task::getDescription), () -> faker.lorem().maxLengthSentence(255))
                 .supply(Select.field(Task::getIndex), () -> faker.number().numberBetween(1, 100))
                 .toModel();
 